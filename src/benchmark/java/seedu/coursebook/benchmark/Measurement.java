@@ -0,0 +1,59 @@
+package seedu.coursebook.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * The bytes an operation allocated on the calling thread, and the nanoseconds it took.
+ * <p>
+ * Benchmarks are run by the {@code benchmark} task rather than with the unit tests, as what they compare depends on
+ * the machine and on what else it is doing.
+ */
+public class Measurement {
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public final long allocatedBytes;
+    public final long nanos;
+
+    private Measurement(long allocatedBytes, long nanos) {
+        this.allocatedBytes = allocatedBytes;
+        this.nanos = nanos;
+    }
+
+    /**
+     * Runs {@code operation} on the calling thread and returns what it allocated and how long it took.
+     */
+    public static Measurement of(Operation operation) throws Exception {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        operation.run();
+        long nanos = System.nanoTime() - start;
+        return new Measurement(THREAD_BEAN.getThreadAllocatedBytes(threadId) - allocatedBefore, nanos);
+    }
+
+    /**
+     * Returns the median of {@code nanos}, leaving out the first {@code warmUpRuns}, which ran while the code was
+     * being compiled.
+     */
+    public static long median(long[] nanos, int warmUpRuns) {
+        long[] sorted = Arrays.copyOfRange(nanos, warmUpRuns, nanos.length);
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    @Override
+    public String toString() {
+        return nanos + "ns, " + allocatedBytes + " bytes";
+    }
+
+    /**
+     * An operation to measure.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.coursebook.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.coursebook.benchmark.Measurement;
+
+public class EditDistanceBenchmark {
+
+    private static final int UNBOUNDED = 1000;
+
+    /**
+     * Benchmarks the distances between random names, as a fuzzy search of a large course book computes them. Once the
+     * buffers of the thread are allocated, no distance allocates, and a small bound stops most of them early.
+     */
+    @Test
+    public void damerauLevenshtein_manyNames_allocationFreeAndFasterWhenBounded() throws Exception {
+        Random random = new Random(0);
+        String[] words = new String[1000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = randomWord(random);
+        }
+
+        // warms up the buffers and the compiler
+        compareAll(words, 2);
+        compareAll(words, UNBOUNDED);
+
+        Measurement bounded = Measurement.of(() -> compareAll(words, 2));
+        Measurement unbounded = Measurement.of(() -> compareAll(words, UNBOUNDED));
+
+        assertTrue(bounded.allocatedBytes < 1024, "1m bounded distances " + bounded);
+        assertTrue(bounded.nanos < unbounded.nanos,
+                "1m distances " + bounded + " bounded, " + unbounded + " unbounded");
+    }
+
+    private static long compareAll(String[] words, int bound) {
+        long total = 0;
+        for (String a : words) {
+            for (String b : words) {
+                total += EditDistance.damerauLevenshtein(a, b, bound);
+            }
+        }
+        return total;
+    }
+
+    private static String randomWord(Random random) {
+        char[] chars = new char[3 + random.nextInt(6)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(6));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.coursebook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.coursebook.benchmark.Measurement;
+import seedu.coursebook.model.course.Course;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class CourseCatalogueBenchmark {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+
+    /**
+     * Compares the enrollment index with scanning every person, as list-by-course and the course cards used to do,
+     * on a course book of 100,000 persons spread over 2,000 courses.
+     */
+    @Test
+    public void getEnrollmentCount_largeCourseBook_fasterThanScanning() throws Exception {
+        int courseCount = 2_000;
+        List<Course> courses = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            courses.add(new Course("C" + i));
+        }
+        Person template = new PersonBuilder().build();
+        for (int i = 0; i < 100_000; i++) {
+            Set<Course> enrolled = Set.of(courses.get(i % courseCount), courses.get((i * 7 + 1) % courseCount));
+            persons.add(new Person(template.getName(), template.getPhone(), template.getEmail(),
+                    template.getAddress(), template.getTags(), enrolled, template.getBirthday(), false));
+        }
+        CourseCatalogue catalogue = new CourseCatalogue(persons);
+        persons.addListener(catalogue::handleChange);
+        List<Course> sampledCourses = courses.subList(0, 20);
+
+        // warm up both paths so neither is measured while being compiled
+        countByScanning(sampledCourses);
+        countByIndex(catalogue, sampledCourses);
+
+        List<List<Integer>> counts = new ArrayList<>();
+        long scanNanos = Measurement.of(() -> counts.add(countByScanning(sampledCourses))).nanos;
+        long indexNanos = Measurement.of(() -> counts.add(countByIndex(catalogue, sampledCourses))).nanos;
+
+        assertEquals(counts.get(0), counts.get(1));
+        // The index answers each course in O(1), while scanning visits all persons for every course.
+        assertTrue(indexNanos * 10 < scanNanos,
+                "index took " + indexNanos + "ns while scanning took " + scanNanos + "ns");
+    }
+
+    private List<Integer> countByScanning(List<Course> courses) {
+        return courses.stream()
+                .map(course -> (int) persons.stream()
+                        .filter(person -> person.getCourses().stream()
+                                .anyMatch(c -> c.courseCode.equalsIgnoreCase(course.courseCode)))
+                        .count())
+                .collect(Collectors.toList());
+    }
+
+    private List<Integer> countByIndex(CourseCatalogue catalogue, List<Course> courses) {
+        return courses.stream()
+                .map(catalogue::getEnrollmentCount)
+                .collect(Collectors.toList());
+    }
+}
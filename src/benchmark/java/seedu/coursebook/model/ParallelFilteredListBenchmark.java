@@ -0,0 +1,67 @@
+package seedu.coursebook.model;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.coursebook.benchmark.Measurement;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonContainsKeywordsPredicate;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class ParallelFilteredListBenchmark {
+
+    /**
+     * Benchmarks filtering a large course book with a pool of 1 to 16 threads, against testing every person on the
+     * calling thread. A pool larger than the number of cores cannot be faster than one as large as it, so the speedup
+     * is only checked on machines with several cores.
+     */
+    @Test
+    public void setPredicate_largeCourseBook_scalesWithCores() throws Exception {
+        List<Person> largeList = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            largeList.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com").withTags("friends", "Group" + i % 100).build());
+        }
+        ObservableList<Person> persons = FXCollections.observableArrayList(largeList);
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("son 12"),
+                List.of("555"), List.of("example.org"), List.of("street"), List.of("group7"));
+
+        long sequential = medianNanos(new ParallelFilteredList<>(persons, ForkJoinPool.commonPool(),
+                Integer.MAX_VALUE), predicate);
+        int cores = Runtime.getRuntime().availableProcessors();
+        long fastest = Long.MAX_VALUE;
+        StringBuilder timings = new StringBuilder("sequential " + sequential + "ns");
+        for (int threads = 1; threads <= 16; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            long parallel = medianNanos(new ParallelFilteredList<>(persons, pool, 1), predicate);
+            pool.shutdown();
+            timings.append(", ").append(threads).append(" threads ").append(parallel).append("ns");
+            if (threads <= cores) {
+                fastest = Math.min(fastest, parallel);
+            }
+        }
+
+        if (cores >= 4) {
+            assertTrue(fastest < sequential, timings.toString());
+        }
+    }
+
+    private static long medianNanos(ParallelFilteredList<Person> filtered, Predicate<Person> predicate)
+            throws Exception {
+        long[] nanos = new long[25];
+        for (int i = 0; i < nanos.length; i++) {
+            filtered.setPredicate(null);
+            nanos[i] = Measurement.of(() -> filtered.setPredicate(predicate)).nanos;
+        }
+        // the first runs, which compile the scan, are left out
+        return Measurement.median(nanos, 5);
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.coursebook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.coursebook.benchmark.Measurement;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class PersonContainsKeywordsPredicateBenchmark {
+
+    /**
+     * Benchmarks {@code find} over a large course book, against lowercasing every field and keyword on every test as
+     * it used to be done. Once the search keys of the persons are cached, testing a person allocates nothing.
+     */
+    @Test
+    public void test_largeCourseBook_allocationFreeAfterFirstSearch() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com").withTags("friends", "Group" + i % 100).build());
+        }
+        List<String> keywords = Arrays.asList("Zed", "Nobody");
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                keywords, keywords, keywords, keywords, keywords);
+
+        Measurement cached = null;
+        Measurement lowercasing = null;
+        // the first rounds warm up both searches so neither is measured while being compiled
+        for (int round = 0; round < 5; round++) {
+            cached = Measurement.of(() -> assertEquals(0, persons.stream().filter(predicate).count()));
+            lowercasing = Measurement.of(() -> assertEquals(0,
+                    persons.stream().filter(person -> testByLowercasing(person, keywords)).count()));
+        }
+
+        assertTrue(cached.allocatedBytes < 100_000, "search " + cached);
+        assertTrue(cached.nanos < lowercasing.nanos, "search " + cached + ", search lowercasing each field "
+                + lowercasing);
+    }
+
+    private static boolean testByLowercasing(Person person, List<String> keywords) {
+        List<String> texts = new ArrayList<>(List.of(person.getName().fullName, person.getPhone().value,
+                person.getEmail().value, person.getAddress().value));
+        person.getTags().forEach(tag -> texts.add(tag.tagName));
+        return texts.stream().anyMatch(text -> keywords.stream()
+                .anyMatch(keyword -> text.toLowerCase().contains(keyword.toLowerCase())));
+    }
+}
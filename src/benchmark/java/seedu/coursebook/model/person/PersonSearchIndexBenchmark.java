@@ -0,0 +1,98 @@
+package seedu.coursebook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.coursebook.benchmark.Measurement;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class PersonSearchIndexBenchmark {
+
+    /**
+     * Benchmarks {@code find} over a large course book against testing every person. Both still pass every person
+     * through the {@code FilteredList}, so the indexed search is bounded by the time to do so.
+     */
+    @Test
+    public void narrow_largeCourseBook_fasterThanScanning() throws Exception {
+        List<Person> largeList = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            largeList.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com").withTags("friends", "Group" + i % 100).build());
+        }
+        ObservableList<Person> largePersons = FXCollections.observableArrayList(largeList);
+        PersonSearchIndex largeIndex = new PersonSearchIndex(largePersons);
+        largePersons.addListener(largeIndex::handleChange);
+        FilteredList<Person> filtered = new FilteredList<>(largePersons);
+
+        Random random = new Random(0);
+        long[] indexed = new long[200];
+        long[] scanned = new long[200];
+        for (int i = 0; i < indexed.length; i++) {
+            PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                    List.of("son " + random.nextInt(100_000)), Collections.emptyList(), Collections.emptyList(),
+                    Collections.emptyList(), Collections.emptyList());
+            indexed[i] = Measurement.of(() -> filtered.setPredicate(largeIndex.narrow(predicate))).nanos;
+            int matchCount = filtered.size();
+            scanned[i] = Measurement.of(() -> filtered.setPredicate(person -> predicate.test(person))).nanos;
+            assertEquals(filtered.size(), matchCount);
+        }
+
+        // the first searches, which build the index and compile both searches, are left out
+        long indexedMedian = Measurement.median(indexed, 20);
+        long scannedMedian = Measurement.median(scanned, 20);
+        assertTrue(indexedMedian < scannedMedian,
+                "indexed search took " + indexedMedian + "ns, scan took " + scannedMedian + "ns");
+    }
+
+    /**
+     * Benchmarks a fuzzy {@code find} over a large course book against computing the distance to every person.
+     */
+    @Test
+    public void narrow_fuzzyLargeCourseBook_fasterThanScanning() throws Exception {
+        Random random = new Random(0);
+        List<Person> largeList = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            largeList.add(new PersonBuilder().withName(randomName(random) + " " + randomName(random))
+                    .withPhone(String.valueOf(80_000_000 + i)).withEmail("person" + i + "@example.com").build());
+        }
+        ObservableList<Person> largePersons = FXCollections.observableArrayList(largeList);
+        PersonSearchIndex largeIndex = new PersonSearchIndex(largePersons);
+        largePersons.addListener(largeIndex::handleChange);
+        FilteredList<Person> filtered = new FilteredList<>(largePersons);
+
+        long[] indexed = new long[60];
+        long[] scanned = new long[60];
+        for (int i = 0; i < indexed.length; i++) {
+            FuzzyNamePredicate predicate = new FuzzyNamePredicate(List.of(randomName(random)), 1);
+            indexed[i] = Measurement.of(() -> filtered.setPredicate(largeIndex.narrow(predicate))).nanos;
+            int matchCount = filtered.size();
+            scanned[i] = Measurement.of(() -> filtered.setPredicate(person -> predicate.test(person))).nanos;
+            assertEquals(filtered.size(), matchCount);
+        }
+
+        // the first searches, which build the index and compile both searches, are left out
+        long indexedMedian = Measurement.median(indexed, 10);
+        long scannedMedian = Measurement.median(scanned, 10);
+        assertTrue(indexedMedian < scannedMedian,
+                "indexed fuzzy search took " + indexedMedian + "ns, scan took " + scannedMedian + "ns");
+    }
+
+    private static String randomName(Random random) {
+        char[] chars = new char[4 + random.nextInt(5)];
+        chars[0] = (char) ('A' + random.nextInt(26));
+        for (int i = 1; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.coursebook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.coursebook.benchmark.Measurement;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class UniquePersonListBenchmark {
+
+    @Test
+    public void add_manyPersons_insertCostStaysFlat() throws Exception {
+        int batchSize = 10_000;
+        int batches = 10;
+        List<Person> persons = generatePersons(batchSize * batches);
+
+        // warm up the JIT on a throwaway list so the first measured batch is not penalised
+        UniquePersonList warmUpList = new UniquePersonList();
+        persons.subList(0, batchSize).forEach(warmUpList::add);
+
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        long[] batchTimes = new long[batches];
+        for (int b = 0; b < batches; b++) {
+            List<Person> batch = persons.subList(b * batchSize, (b + 1) * batchSize);
+            batchTimes[b] = Measurement.of(() -> batch.forEach(uniquePersonList::add)).nanos;
+        }
+
+        assertEquals(batchSize * batches, uniquePersonList.asUnmodifiableObservableList().size());
+        // A linear scan per insert would make the last batch roughly 19 times slower than the first.
+        long firstBatches = batchTimes[0] + batchTimes[1] + batchTimes[2];
+        long lastBatches = batchTimes[batches - 3] + batchTimes[batches - 2] + batchTimes[batches - 1];
+        assertTrue(lastBatches < firstBatches * 5,
+                "insert cost grew from " + firstBatches + "ns to " + lastBatches + "ns");
+    }
+
+    /**
+     * Returns {@code count} persons whose names, phones and emails are all distinct.
+     */
+    private static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(10_000_000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .build());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.coursebook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.coursebook.benchmark.Measurement;
+import seedu.coursebook.model.CourseBook;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class BinaryCourseBookStorageBenchmark {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Loading the binary format should be faster than loading JSON, as it skips Jackson's reflection and validates
+     * each distinct course and tag once. Measured at 10,000 and 100,000 persons; 1,000,000 persons do not fit the
+     * default test heap.
+     */
+    @Test
+    public void readCourseBook_largeCourseBooks_fasterThanJson() throws Exception {
+        for (int personCount : new int[] {10_000, 100_000}) {
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < personCount; i++) {
+                persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80_000_000 + i))
+                        .withEmail("person" + i + "@example.com").withTags("friends")
+                        .withCourses("CS2103T", "CS210" + (i % 10)).build());
+            }
+            CourseBook courseBook = new CourseBook();
+            courseBook.setPersons(persons);
+            JsonCourseBookStorage jsonStorage = new JsonCourseBookStorage(testFolder.resolve(personCount + ".json"));
+            BinaryCourseBookStorage binaryStorage =
+                    new BinaryCourseBookStorage(testFolder.resolve(personCount + ".bin"));
+            jsonStorage.saveCourseBook(courseBook);
+            binaryStorage.saveCourseBook(courseBook);
+            persons = null;
+            courseBook = null;
+
+            // warm up both paths so neither is measured while being compiled
+            jsonStorage.readCourseBook();
+            binaryStorage.readCourseBook();
+
+            Measurement jsonRead = Measurement.of(() -> jsonStorage.readCourseBook());
+            Measurement binaryRead = Measurement.of(() -> binaryStorage.readCourseBook());
+
+            assertTrue(binaryRead.nanos < jsonRead.nanos,
+                    personCount + " persons: binary load " + binaryRead + ", JSON load " + jsonRead);
+        }
+    }
+}
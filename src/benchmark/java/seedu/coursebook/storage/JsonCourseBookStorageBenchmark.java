@@ -0,0 +1,179 @@
+package seedu.coursebook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.coursebook.benchmark.Measurement;
+import seedu.coursebook.commons.util.JsonUtil;
+import seedu.coursebook.model.CourseBook;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class JsonCourseBookStorageBenchmark {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Streaming persons one at a time should allocate far less than building the whole document as a string when
+     * saving, and neither saving nor reading should be slower. Reading allocates about the same in total, as that is
+     * dominated by validating each person, but never holds the file's text or its adapted persons all at once.
+     * Uses 50,000 persons to fit the default test heap.
+     */
+    @Test
+    public void saveAndReadCourseBook_largeCourseBook_allocatesLessThanWholeDocument() throws Exception {
+        CourseBook courseBook = createCourseBook(50_000);
+        Path streamedPath = testFolder.resolve("StreamedCourseBook.json");
+        Path documentPath = testFolder.resolve("DocumentCourseBook.json");
+        JsonCourseBookStorage storage = new JsonCourseBookStorage(streamedPath);
+
+        // warm up both paths so neither is measured while being compiled
+        storage.saveCourseBook(courseBook);
+        storage.readCourseBook();
+        JsonUtil.saveJsonFile(new JsonSerializableCourseBook(courseBook), documentPath);
+        JsonUtil.readJsonFile(documentPath, JsonSerializableCourseBook.class).get().toModelType();
+
+        Measurement streamedSave = Measurement.of(() -> storage.saveCourseBook(courseBook));
+        Measurement documentSave = Measurement.of(() ->
+                JsonUtil.saveJsonFile(new JsonSerializableCourseBook(courseBook), documentPath));
+        Measurement streamedRead = Measurement.of(() -> storage.readCourseBook());
+        Measurement documentRead = Measurement.of(() ->
+                JsonUtil.readJsonFile(documentPath, JsonSerializableCourseBook.class).get().toModelType());
+
+        assertEquals(Files.readString(documentPath), Files.readString(streamedPath));
+        assertTrue(streamedSave.allocatedBytes * 3 / 2 < documentSave.allocatedBytes,
+                "streamed save " + streamedSave + ", document save " + documentSave);
+        assertTrue(streamedSave.nanos < documentSave.nanos * 2,
+                "streamed save " + streamedSave + ", document save " + documentSave);
+        assertTrue(streamedRead.nanos < documentRead.nanos * 2,
+                "streamed read " + streamedRead + ", document read " + documentRead);
+    }
+
+    /**
+     * Compressing the data file makes it several times smaller at every level, at the cost of some save and load time,
+     * which is reported here for levels 1, 6 and 9 and bounded loosely. Measured on 20,000 persons.
+     */
+    @Test
+    public void saveAndReadCourseBook_compressionLevels_smallerFilesAtBoundedCost() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com").withCourses("CS2103T", "CS210" + (i % 10)).build());
+        }
+        CourseBook courseBook = new CourseBook();
+        courseBook.setPersons(persons);
+
+        StringBuilder report = new StringBuilder();
+        long plainSize = 0;
+        Measurement plainSave = null;
+        Measurement plainRead = null;
+        for (int level : new int[] {0, 1, 6, 9}) {
+            Path filePath = testFolder.resolve("Level" + level + "CourseBook.json");
+            JsonCourseBookStorage storage = new JsonCourseBookStorage(filePath, false, 0, level);
+            // warm up so neither path is measured while being compiled
+            storage.saveCourseBook(courseBook);
+            storage.readCourseBook();
+
+            Measurement save = Measurement.of(() -> storage.saveCourseBook(courseBook));
+            Measurement read = Measurement.of(() -> storage.readCourseBook());
+            long size = Files.size(filePath);
+            report.append(String.format("level %d: %d bytes, save %dms, load %dms%n",
+                    level, size, save.nanos / 1_000_000, read.nanos / 1_000_000));
+            if (level == 0) {
+                plainSize = size;
+                plainSave = save;
+                plainRead = read;
+                continue;
+            }
+            assertTrue(size * 4 < plainSize, report.toString());
+            assertTrue(save.nanos < plainSave.nanos * 5 + 200_000_000L, report.toString());
+            assertTrue(read.nanos < plainRead.nanos * 3 + 200_000_000L, report.toString());
+        }
+    }
+
+    /**
+     * After an edit, a save should only serialise the edited person, so it allocates a small fraction of what saving
+     * every person does, and takes less time. Measured on 100,000 persons.
+     */
+    @Test
+    public void saveCourseBook_singleEditOnLargeCourseBook_cheaperThanSavingAfresh() throws Exception {
+        CourseBook courseBook = createCourseBook(100_000);
+        Path cachedPath = testFolder.resolve("CachedCourseBook.json");
+        Path freshPath = testFolder.resolve("FreshCourseBook.json");
+        JsonCourseBookStorage storage = new JsonCourseBookStorage(cachedPath);
+
+        Measurement editSave = null;
+        Measurement freshSave = null;
+        // the first rounds warm up both paths so neither is measured while being compiled
+        for (int round = 0; round < 3; round++) {
+            storage.saveCourseBook(courseBook);
+            Person target = courseBook.getPersonList().get(round * 1_000);
+            courseBook.setPerson(target, new PersonBuilder(target).withAddress("Edited street " + round).build());
+            editSave = Measurement.of(() -> storage.saveCourseBook(courseBook));
+            freshSave = Measurement.of(() -> new JsonCourseBookStorage(freshPath).saveCourseBook(courseBook));
+        }
+
+        assertEquals(Files.readString(freshPath), Files.readString(cachedPath));
+        assertTrue(editSave.allocatedBytes * 10 < freshSave.allocatedBytes,
+                "save after an edit " + editSave + ", fresh save " + freshSave);
+        assertTrue(editSave.nanos < freshSave.nanos, "save after an edit " + editSave + ", fresh save " + freshSave);
+    }
+
+    /**
+     * Forcing the file to disk and moving it into place adds latency over writing the data file in place, which is
+     * reported here and bounded loosely, as it depends mostly on the storage device.
+     */
+    @Test
+    public void saveCourseBook_durable_latencyComparedToWritingInPlace() throws Exception {
+        CourseBook courseBook = createCourseBook(2_000);
+        Path durablePath = testFolder.resolve("DurableCourseBook.json");
+        Path inPlacePath = testFolder.resolve("InPlaceCourseBook.json");
+        JsonCourseBookStorage storage = new JsonCourseBookStorage(durablePath, false, 2);
+        Measurement.Operation writeInPlace = () -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(
+                    new BufferedOutputStream(Files.newOutputStream(inPlacePath)), true)) {
+                JsonUtil.writeValue(generator, new JsonSerializableCourseBook(courseBook));
+            }
+        };
+
+        // the first runs warm up both paths so neither is measured while being compiled
+        int warmUpRuns = 5;
+        long[] durableNanos = new long[warmUpRuns + 20];
+        long[] inPlaceNanos = new long[warmUpRuns + 20];
+        for (int i = 0; i < durableNanos.length; i++) {
+            durableNanos[i] = Measurement.of(() -> storage.saveCourseBook(courseBook)).nanos;
+            inPlaceNanos[i] = Measurement.of(writeInPlace).nanos;
+        }
+        long durableMedian = Measurement.median(durableNanos, warmUpRuns);
+        long inPlaceMedian = Measurement.median(inPlaceNanos, warmUpRuns);
+
+        assertEquals(Files.readString(inPlacePath), Files.readString(durablePath));
+        assertTrue(durableMedian < inPlaceMedian * 2 + 200_000_000L,
+                "durable save took " + durableMedian + "ns, in-place write " + inPlaceMedian + "ns");
+    }
+
+    /**
+     * Returns a course book of {@code count} persons with distinct names, phones and emails.
+     */
+    private static CourseBook createCourseBook(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com").withCourses("CS2103T", "CS2101").build());
+        }
+        CourseBook courseBook = new CourseBook();
+        courseBook.setPersons(persons);
+        return courseBook;
+    }
+}
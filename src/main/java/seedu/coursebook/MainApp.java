@@ -4,27 +4,38 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.coursebook.commons.core.Config;
 import seedu.coursebook.commons.core.LogsCenter;
+import seedu.coursebook.commons.core.StartupProfiler;
 import seedu.coursebook.commons.core.Version;
 import seedu.coursebook.commons.exceptions.DataLoadingException;
 import seedu.coursebook.commons.util.ConfigUtil;
+import seedu.coursebook.commons.util.JsonUtil;
 import seedu.coursebook.commons.util.StringUtil;
 import seedu.coursebook.logic.Logic;
 import seedu.coursebook.logic.LogicManager;
 import seedu.coursebook.model.CourseBook;
+import seedu.coursebook.model.HistorySpillStore;
 import seedu.coursebook.model.Model;
 import seedu.coursebook.model.ModelManager;
 import seedu.coursebook.model.ReadOnlyCourseBook;
 import seedu.coursebook.model.ReadOnlyUserPrefs;
 import seedu.coursebook.model.UserPrefs;
 import seedu.coursebook.model.util.SampleDataUtil;
+import seedu.coursebook.storage.BinaryCourseBookStorage;
 import seedu.coursebook.storage.CourseBookStorage;
+import seedu.coursebook.storage.FileCourseBookStorage;
+import seedu.coursebook.storage.JournalCourseBookStorage;
 import seedu.coursebook.storage.JsonCourseBookStorage;
+import seedu.coursebook.storage.JsonHistorySpillStore;
 import seedu.coursebook.storage.JsonUserPrefsStorage;
+import seedu.coursebook.storage.ShardedCourseBookStorage;
 import seedu.coursebook.storage.Storage;
 import seedu.coursebook.storage.StorageManager;
 import seedu.coursebook.storage.UserPrefsStorage;
@@ -45,36 +56,83 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected HistorySpillStore historySpillStore;
+    protected StartupProfiler startupProfiler;
 
     @Override
     public void init() throws Exception {
+        startupProfiler = new StartupProfiler();
         logger.info("=============================[ Initializing CourseBook ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        startupProfiler.endPhase("config");
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        CourseBookStorage courseBookStorage = new JsonCourseBookStorage(userPrefs.getCourseBookFilePath());
+        startupProfiler.endPhase("prefs");
+        int compressionLevel = userPrefs.getDataFileCompressionLevel();
+        if (compressionLevel < 0 || compressionLevel > Deflater.BEST_COMPRESSION) {
+            logger.warning("Invalid data file compression level " + compressionLevel + ", saving uncompressed");
+            compressionLevel = 0;
+        }
+        FileCourseBookStorage fileStorage = userPrefs.isDataFileBinary()
+                ? new BinaryCourseBookStorage(userPrefs.getCourseBookFilePath(), userPrefs.getDataFileBackupCount(),
+                        compressionLevel)
+                : new JsonCourseBookStorage(userPrefs.getCourseBookFilePath(), userPrefs.isDataFileCompact(),
+                        userPrefs.getDataFileBackupCount(), compressionLevel);
+        CourseBookStorage courseBookStorage = fileStorage;
+        if (userPrefs.isDataFileSharded()) {
+            courseBookStorage = new ShardedCourseBookStorage(userPrefs.getCourseBookFilePath());
+        } else if (userPrefs.isDataFileJournalled()) {
+            courseBookStorage = new JournalCourseBookStorage(fileStorage);
+        }
         storage = new StorageManager(courseBookStorage, userPrefsStorage);
+        startupProfiler.endPhase("storage");
 
-        model = initModelManager(storage, userPrefs);
+        historySpillStore = new JsonHistorySpillStore(userPrefs.getCourseBookFilePath());
+        model = initModelManager(storage, userPrefs, historySpillStore);
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
+        startupProfiler.endPhase("logic and ui");
+
+        if (!model.isCourseBookLoaded()) {
+            // Read the data file while the main window is being created
+            loadCourseBookInBackground(storage);
+        }
     }
 
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Undo history over the memory budget in {@code userPrefs} is spilled to {@code historySpillStore}.
+     * If the data file is loaded in the background, the model starts empty and is loaded by
+     * {@link #loadCourseBookInBackground}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+            HistorySpillStore historySpillStore) {
         logger.info("Using data file : " + storage.getCourseBookFilePath());
 
+        if (userPrefs.isDataFileLoadedInBackground()) {
+            return new ModelManager(userPrefs, historySpillStore);
+        }
+        ReadOnlyCourseBook initialData = readInitialData(storage);
+        startupProfiler.endPhase("data");
+        ModelManager modelManager = new ModelManager(initialData, userPrefs, historySpillStore);
+        startupProfiler.endPhase("model");
+        return modelManager;
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * If the data file is journalled, {@code storage} replays the journal on top of the data file it reads.
+     */
+    private static ReadOnlyCourseBook readInitialData(Storage storage) {
         Optional<ReadOnlyCourseBook> courseBookOptional;
         ReadOnlyCourseBook initialData;
         try {
@@ -89,8 +147,26 @@ public class MainApp extends Application {
                     + " Will be starting with an empty CourseBook.");
             initialData = new CourseBook();
         }
+        return initialData;
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Reads {@code storage}'s address book on a background thread, and loads it into the model on the JavaFX
+     * application thread once it has been read.
+     */
+    private void loadCourseBookInBackground(Storage storage) {
+        Thread loader = new Thread(() -> {
+            long start = System.nanoTime();
+            ReadOnlyCourseBook initialData = readInitialData(storage);
+            long readNanos = System.nanoTime() - start;
+            logger.info("Data file read in the background in " + readNanos / 1_000_000 + "ms");
+            Platform.runLater(() -> {
+                model.loadCourseBook(initialData);
+                startupProfiler.addPhase("data (background)", System.nanoTime() - start);
+            });
+        }, "CourseBook-loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     private void initLogging(Config config) {
@@ -129,7 +205,11 @@ public class MainApp extends Application {
 
         //Update config file in case it was missing to begin with or there are new/unused fields
         try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            if (initializedConfig.isFastStart() && JsonUtil.isJsonFileUpToDate(initializedConfig, configFilePathUsed)) {
+                logger.fine("Config file is up to date, not rewriting it");
+            } else {
+                ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+            }
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
@@ -160,7 +240,11 @@ public class MainApp extends Application {
 
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
-            storage.saveUserPrefs(initializedPrefs);
+            if (config.isFastStart() && JsonUtil.isJsonFileUpToDate(initializedPrefs, prefsFilePath)) {
+                logger.fine("Preference file is up to date, not rewriting it");
+            } else {
+                storage.saveUserPrefs(initializedPrefs);
+            }
         } catch (IOException e) {
             logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
         }
@@ -172,15 +256,38 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting CourseBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        startupProfiler.endPhase("window");
+        recordFirstFrame();
+    }
+
+    /**
+     * Records the first frame in {@code startupProfiler} on the first pulse after the main window is shown, which is
+     * when the first frame is rendered, and logs the startup summary.
+     */
+    private void recordFirstFrame() {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                startupProfiler.recordFirstFrame();
+                logger.info(startupProfiler.getSummary());
+            }
+        }.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping CourseBook ] =============================");
+        logic.flushPendingSaves();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            historySpillStore.close();
+        } catch (IOException e) {
+            logger.warning("Failed to delete spilled undo history " + StringUtil.getDetails(e));
+        }
     }
 }
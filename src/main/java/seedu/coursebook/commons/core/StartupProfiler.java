@@ -0,0 +1,101 @@
+package seedu.coursebook.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Records how long each phase of the app's startup takes, and when its first frame is shown, measured with
+ * {@link System#nanoTime()} from when the profiler is created.
+ * Phases are recorded from the JavaFX launcher thread, the JavaFX application thread and the background loader, so
+ * every method is synchronized.
+ */
+public class StartupProfiler {
+
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private long phaseStartNanos;
+    private long firstFrameNanos = -1;
+
+    /**
+     * Creates a profiler that starts timing now.
+     */
+    public StartupProfiler() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a profiler that reads the time in nanoseconds from {@code clock}, and starts timing now.
+     */
+    StartupProfiler(LongSupplier clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+        this.phaseStartNanos = startNanos;
+    }
+
+    /**
+     * Records {@code phase} as having taken the time since the previous phase ended, or since the profiler was created.
+     */
+    public synchronized void endPhase(String phase) {
+        requireNonNull(phase);
+        long now = clock.getAsLong();
+        phaseNanos.merge(phase, now - phaseStartNanos, Long::sum);
+        phaseStartNanos = now;
+    }
+
+    /**
+     * Records {@code phase}, which ran alongside the other phases, as having taken {@code nanos}.
+     */
+    public synchronized void addPhase(String phase, long nanos) {
+        requireNonNull(phase);
+        phaseNanos.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Records that the first frame is being shown now. Only the first call has any effect.
+     */
+    public synchronized void recordFirstFrame() {
+        if (firstFrameNanos < 0) {
+            firstFrameNanos = clock.getAsLong() - startNanos;
+        }
+    }
+
+    /**
+     * Returns the time from when the profiler was created to when the first frame was shown, if it has been shown.
+     */
+    public synchronized OptionalLong getFirstFrameNanos() {
+        return firstFrameNanos < 0 ? OptionalLong.empty() : OptionalLong.of(firstFrameNanos);
+    }
+
+    /**
+     * Returns the time taken by each phase recorded so far, in the order they were first recorded.
+     */
+    public synchronized Map<String, Long> getPhaseNanos() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(phaseNanos));
+    }
+
+    /**
+     * Returns a one line summary of the phases recorded so far, and the first frame time if it has been shown.
+     */
+    public synchronized String getSummary() {
+        StringBuilder summary = new StringBuilder("Startup phases:");
+        phaseNanos.forEach((phase, nanos) -> summary.append(" ").append(phase).append(" ")
+                .append(toMillis(nanos)).append("ms,"));
+        if (firstFrameNanos >= 0) {
+            summary.append(" first frame after ").append(toMillis(firstFrameNanos)).append("ms");
+        } else {
+            summary.append(" first frame not shown yet");
+        }
+        return summary.toString();
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
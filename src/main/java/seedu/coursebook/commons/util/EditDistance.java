@@ -0,0 +1,105 @@
+package seedu.coursebook.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.coursebook.commons.util.AppUtil.checkArgument;
+
+/**
+ * Computes edit distances between strings without allocating, by reusing buffers kept for each thread.
+ */
+public class EditDistance {
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * Returns the Damerau-Levenshtein distance between {@code a} and {@code b}, which is the least number of
+     * insertions, deletions, substitutions and transpositions of adjacent characters that turn one into the other,
+     * or {@code bound + 1} if it is more than {@code bound}.
+     * Unlike the optimal string alignment distance, characters may be edited between transposed characters, so the
+     * distance satisfies the triangle inequality and can be used to search a metric tree.
+     * <p>
+     * Stops as soon as every alignment of a prefix of {@code a} costs more than {@code bound}, so bounding the distance
+     * makes comparing distant strings cheap.
+     *
+     * @param bound cannot be negative.
+     */
+    public static int damerauLevenshtein(String a, String b, int bound) {
+        requireNonNull(a);
+        requireNonNull(b);
+        checkArgument(bound >= 0, "Bound cannot be negative");
+
+        int m = a.length();
+        int n = b.length();
+        if (Math.abs(m - n) > bound) {
+            return bound + 1;
+        }
+        return SCRATCH.get().damerauLevenshtein(a, b, bound);
+    }
+
+    /**
+     * The buffers of one thread. The distance matrix is grown as longer strings are compared, and the last row of each
+     * character is kept for every possible {@code char}, and reset after each comparison.
+     */
+    private static class Scratch {
+        private int[] matrix = new int[32 * 32];
+        private final int[] lastRowOfChar = new int[Character.MAX_VALUE + 1];
+
+        /**
+         * Computes the distance with the Lowrance-Wagner algorithm over a matrix with an extra leading row and column
+         * that hold a value larger than any distance.
+         */
+        int damerauLevenshtein(String a, String b, int bound) {
+            int m = a.length();
+            int n = b.length();
+            int width = n + 2;
+            if (matrix.length < (m + 2) * width) {
+                matrix = new int[(m + 2) * width * 2];
+            }
+            int infinity = m + n;
+            matrix[0] = infinity;
+            for (int i = 0; i <= m; i++) {
+                matrix[(i + 1) * width] = infinity;
+                matrix[(i + 1) * width + 1] = i;
+            }
+            for (int j = 0; j <= n; j++) {
+                matrix[j + 1] = infinity;
+                matrix[width + j + 1] = j;
+            }
+
+            try {
+                for (int i = 1; i <= m; i++) {
+                    char ca = a.charAt(i - 1);
+                    int lastMatchingColumn = 0;
+                    int rowMinimum = i;
+                    for (int j = 1; j <= n; j++) {
+                        char cb = b.charAt(j - 1);
+                        int transposedRow = lastRowOfChar[cb];
+                        int transposedColumn = lastMatchingColumn;
+                        int cost = 1;
+                        if (ca == cb) {
+                            cost = 0;
+                            lastMatchingColumn = j;
+                        }
+                        int value = Math.min(Math.min(
+                                matrix[i * width + j] + cost,
+                                matrix[(i + 1) * width + j] + 1),
+                                matrix[i * width + j + 1] + 1);
+                        value = Math.min(value, matrix[transposedRow * width + transposedColumn]
+                                + (i - transposedRow - 1) + 1 + (j - transposedColumn - 1));
+                        matrix[(i + 1) * width + j + 1] = value;
+                        rowMinimum = Math.min(rowMinimum, value);
+                    }
+                    lastRowOfChar[ca] = i;
+                    if (rowMinimum > bound) {
+                        // Every alignment of the whole strings extends an alignment in this row
+                        return bound + 1;
+                    }
+                }
+                return Math.min(matrix[(m + 1) * width + n + 1], bound + 1);
+            } finally {
+                for (int i = 0; i < m; i++) {
+                    lastRowOfChar[a.charAt(i)] = 0;
+                }
+            }
+        }
+    }
+}
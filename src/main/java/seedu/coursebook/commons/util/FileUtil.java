@@ -1,10 +1,17 @@
 package seedu.coursebook.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -74,10 +81,100 @@ public class FileUtil {
 
     /**
      * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Will create the file if it does not exist yet. The file is replaced atomically, see {@link #writeAtomically}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Replaces {@code file} with what {@code writer} writes, creating it and its missing parent directories if needed.
+     * If writing fails or is interrupted by a crash, {@code file} keeps its previous content.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        Path tempFile = writeToTempFile(file, writer);
+        try {
+            moveAtomically(tempFile, file);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Writes what {@code writer} writes to a new temporary file in the directory of {@code file}, and forces it to the
+     * storage device. Returns the temporary file, which can then be moved over {@code file} with
+     * {@link #moveAtomically}.
+     */
+    public static Path writeToTempFile(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName() + ".", ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+            writer.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        return tempFile;
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in a single step where the file system supports it, so that
+     * {@code target} is never seen half written.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Makes {@code target} hold the content of {@code source}, leaving {@code source} in place. {@code target} is a
+     * hard link to {@code source} where the file system supports them, or else a copy. Either way it is made under a
+     * temporary name and then moved over {@code target}, so {@code target} is never seen half made.
+     */
+    public static void linkOrCopy(Path source, Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, target.getFileName() + ".", ".tmp");
+        try {
+            Files.delete(tempFile);
+            try {
+                Files.createLink(tempFile, source);
+            } catch (UnsupportedOperationException | IOException e) {
+                Files.copy(source, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            moveAtomically(tempFile, target);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the storage device, so that files moved into it stay moved after a
+     * crash. Does nothing on platforms that cannot open directories, such as Windows.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // The move has already happened; it is just not guaranteed to survive a crash on this platform
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream, which it must leave open.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -2,6 +2,9 @@ package seedu.coursebook.logic;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
@@ -13,6 +16,7 @@ import seedu.coursebook.logic.parser.exceptions.ParseException;
 import seedu.coursebook.model.ReadOnlyCourseBook;
 import seedu.coursebook.model.course.Course;
 import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonContainsKeywordsPredicate;
 
 /**
  * API of the Logic component
@@ -35,6 +39,13 @@ public interface Logic {
      */
     CommandResult executeCommand(Command command) throws CommandException;
 
+    /**
+     * Returns the predicate of {@code commandText} if it is a valid {@code find} command that matches keywords, without
+     * executing it or adding it to the history. A fuzzy {@code find} is not matched as it is typed, as it also ranks
+     * the persons. Can be called from any thread.
+     */
+    Optional<PersonContainsKeywordsPredicate> parseFindPredicate(String commandText);
+
     /**
      * Returns the CourseBook.
      *
@@ -42,12 +53,45 @@ public interface Logic {
      */
     ReadOnlyCourseBook getCourseBook();
 
+    /**
+     * Returns an unchanging snapshot of the CourseBook, which can be read from any thread.
+     *
+     * @see seedu.coursebook.model.Model#getCourseBookSnapshot()
+     */
+    ReadOnlyCourseBook getCourseBookSnapshot();
+
+    /**
+     * Adds a listener that is given a message for the user whenever saving the course book in the background fails.
+     * The listener is called on the thread that saves, not the JavaFX application thread.
+     */
+    void addSaveFailureListener(Consumer<String> listener);
+
+    /**
+     * Blocks until every change to the course book so far has been saved, or has failed to save.
+     */
+    void flushPendingSaves();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Updates the filter of the filtered list of persons to {@code predicate}, without executing a command, to preview
+     * the result of a command as it is typed.
+     *
+     * @see seedu.coursebook.model.Model#updateFilteredPersonList(Predicate)
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate);
+
     /** Returns an unmodifiable view of the filtered list of courses */
     ObservableList<Course> getFilteredCourseList();
 
+    /**
+     * Returns the number of persons enrolled in {@code course}.
+     *
+     * @see seedu.coursebook.model.Model#getCourseEnrollmentCount(Course)
+     */
+    int getCourseEnrollmentCount(Course course);
+
     /**
      * Returns an unmodifiable view of the list of commands entered by the user.
      * The list is ordered from the least recent command to the most recent command.
@@ -69,6 +113,11 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Returns true if the person list is narrowed down as a {@code find} command is typed.
+     */
+    boolean isLiveFindEnabled();
+
     /**
      * Selected person in the filtered person list.
      * null if no person is selected.
@@ -1,8 +1,12 @@
 package seedu.coursebook.logic;
 
 import java.io.IOException;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -11,6 +15,7 @@ import seedu.coursebook.commons.core.GuiSettings;
 import seedu.coursebook.commons.core.LogsCenter;
 import seedu.coursebook.logic.commands.Command;
 import seedu.coursebook.logic.commands.CommandResult;
+import seedu.coursebook.logic.commands.FindCommand;
 import seedu.coursebook.logic.commands.exceptions.CommandException;
 import seedu.coursebook.logic.parser.CourseBookParser;
 import seedu.coursebook.logic.parser.exceptions.ParseException;
@@ -18,6 +23,8 @@ import seedu.coursebook.model.Model;
 import seedu.coursebook.model.ReadOnlyCourseBook;
 import seedu.coursebook.model.course.Course;
 import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonContainsKeywordsPredicate;
+import seedu.coursebook.storage.AsyncCourseBookSaver;
 import seedu.coursebook.storage.Storage;
 
 /**
@@ -34,17 +41,18 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AsyncCourseBookSaver courseBookSaver;
     private final CommandHistory history;
     private final CourseBookParser courseBookParser;
     private boolean courseBookModified;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the course book are saved to {@code storage} in the background.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        this.courseBookSaver = new AsyncCourseBookSaver(storage);
         history = new CommandHistory();
         courseBookParser = new CourseBookParser();
 
@@ -55,6 +63,7 @@ public class LogicManager implements Logic {
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        requireCourseBookLoaded();
         courseBookModified = false;
 
         CommandResult commandResult;
@@ -65,14 +74,7 @@ public class LogicManager implements Logic {
             history.add(commandText);
         }
 
-        if (courseBookModified) {
-            logger.info("Course book modified, saving to file.");
-            try {
-                storage.saveCourseBook(model.getCourseBook());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
-        }
+        saveCourseBookIfModified();
 
         return commandResult;
     }
@@ -80,20 +82,71 @@ public class LogicManager implements Logic {
     @Override
     public CommandResult executeCommand(Command command) throws CommandException {
         logger.info("----------------[INTERNAL COMMAND EXECUTION]");
+        requireCourseBookLoaded();
         courseBookModified = false;
 
         CommandResult commandResult = command.execute(model, history);
 
+        saveCourseBookIfModified();
+
+        return commandResult;
+    }
+
+    @Override
+    public Optional<PersonContainsKeywordsPredicate> parseFindPredicate(String commandText) {
+        try {
+            Command command = CourseBookParser.parseCommand(commandText);
+            if (!(command instanceof FindCommand)) {
+                return Optional.empty();
+            }
+            Predicate<Person> predicate = ((FindCommand) command).getPredicate();
+            return predicate instanceof PersonContainsKeywordsPredicate
+                    ? Optional.of((PersonContainsKeywordsPredicate) predicate)
+                    : Optional.empty();
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Refuses commands until the course book has been loaded, so that none of them act on, or save, the empty course
+     * book shown while it loads.
+     */
+    private void requireCourseBookLoaded() throws CommandException {
+        if (!model.isCourseBookLoaded()) {
+            throw new CommandException(Messages.MESSAGE_COURSE_BOOK_LOADING);
+        }
+    }
+
+    /**
+     * Schedules a snapshot of the course book to be saved if the last command modified it.
+     * The save runs in the background, so its cost does not depend on the size of the course book.
+     */
+    private void saveCourseBookIfModified() {
         if (courseBookModified) {
             logger.info("Course book modified, saving to file.");
-            try {
-                storage.saveCourseBook(model.getCourseBook());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            courseBookSaver.requestSave(model.getCourseBookSnapshot());
         }
+    }
 
-        return commandResult;
+    @Override
+    public void addSaveFailureListener(Consumer<String> listener) {
+        courseBookSaver.addFailureListener(ioe -> listener.accept(getSaveFailureMessage(ioe)));
+    }
+
+    /**
+     * Returns the message shown to the user when saving fails with {@code ioe}.
+     */
+    static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return FILE_OPS_ERROR_MESSAGE + ioe;
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        courseBookSaver.flush();
     }
 
     @Override
@@ -101,16 +154,31 @@ public class LogicManager implements Logic {
         return model.getCourseBook();
     }
 
+    @Override
+    public ReadOnlyCourseBook getCourseBookSnapshot() {
+        return model.getCourseBookSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        model.updateFilteredPersonList(predicate);
+    }
+
     @Override
     public ObservableList<Course> getFilteredCourseList() {
         return model.getFilteredCourseList();
     }
 
+    @Override
+    public int getCourseEnrollmentCount(Course course) {
+        return model.getCourseEnrollmentCount(course);
+    }
+
     @Override
     public ObservableList<String> getHistory() {
         return history.getHistory();
@@ -131,6 +199,11 @@ public class LogicManager implements Logic {
         model.setGuiSettings(guiSettings);
     }
 
+    @Override
+    public boolean isLiveFindEnabled() {
+        return model.getUserPrefs().isLiveFindEnabled();
+    }
+
     @Override
     public ReadOnlyProperty<Person> selectedPersonProperty() {
         return model.selectedPersonProperty();
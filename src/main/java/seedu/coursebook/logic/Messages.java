@@ -16,6 +16,8 @@ import seedu.coursebook.model.person.Person;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_COURSE_BOOK_LOADING =
+            "The course book is still loading, please try again in a moment.";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_INDEX_OUT_OF_RANGE = "Index out of range";
@@ -38,6 +38,7 @@ public class EditCourseColorCommand extends Command {
             throw new CommandException("Course code and color must be provided");
         }
         model.setCourseColor(courseCode, color);
+        model.commitCourseBook();
         return new CommandResult("Updated color for " + courseCode + " to " + color.name());
     }
 }
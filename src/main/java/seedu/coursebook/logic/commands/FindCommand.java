@@ -2,15 +2,19 @@ package seedu.coursebook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Predicate;
+
 import seedu.coursebook.commons.util.ToStringBuilder;
 import seedu.coursebook.logic.CommandHistory;
 import seedu.coursebook.logic.Messages;
 import seedu.coursebook.model.Model;
+import seedu.coursebook.model.person.FuzzyNamePredicate;
+import seedu.coursebook.model.person.Person;
 import seedu.coursebook.model.person.PersonContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons whose fields match the given keywords.
- * Supports field prefixes and OR-across-fields matching.
+ * Supports field prefixes and OR-across-fields matching, and a fuzzy search of names ranked by closeness.
  */
 public class FindCommand extends Command {
 
@@ -27,15 +31,28 @@ public class FindCommand extends Command {
             + "- All fields support case-insensitive partial matching (e.g., 'Ali' matches 'Alice').\n"
             + "- If no prefixes are present, input will be treated as a name.\n"
             + "- Only supports prefixes: n/, p/, e/, a/, t/. Any other prefix causes an error.\n"
+            + "Fuzzy search: " + COMMAND_WORD + " ~n/NAME_KEYWORDS [d/MAX_DISTANCE]\n"
+            + "- Finds names with a word within MAX_DISTANCE (0 to " + FuzzyNamePredicate.MAX_MAX_DISTANCE
+            + ", default " + FuzzyNamePredicate.DEFAULT_MAX_DISTANCE + ") typos of any keyword, "
+            + "closest matches first.\n"
             + "Alias: f\n"
-            + "Examples: find n/John n/Alice | find p/9123 p/9876 | find t/friend t/colleague | find alex bob";
+            + "Examples: find n/John n/Alice | find p/9123 p/9876 | find t/friend t/colleague | find alex bob "
+            + "| find ~n/jonh d/1";
 
-    private final PersonContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
 
     public FindCommand(PersonContainsKeywordsPredicate predicate) {
         this.predicate = predicate;
     }
 
+    public FindCommand(FuzzyNamePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
@@ -2,7 +2,7 @@ package seedu.coursebook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.coursebook.logic.CommandHistory;
 import seedu.coursebook.model.Model;
@@ -32,7 +32,8 @@ public class ListByCourseCommand extends Command {
 
     /**
      * Executes the command by filtering the contacts list to include only those
-     * enrolled in the given course. Returns a {@code CommandResult} with feedback.
+     * enrolled in the given course, as looked up in the model's enrollment index.
+     * Returns a {@code CommandResult} with feedback.
      *
      * @param model The model containing the person list and filtering condition.
      * @return A {@code CommandResult} indicating the outcome of the command.
@@ -41,14 +42,10 @@ public class ListByCourseCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        Predicate<Person> personsInCourse = person ->
-                person.getCourses().stream()
-                        .map(c -> c.courseCode)
-                        .anyMatch(code ->code.equalsIgnoreCase(course));
-        model.updateFilteredPersonList(personsInCourse);
-        int size = model.getFilteredPersonList().size();
-
-        if (size == 0) {
+        Set<Person> personsInCourse = model.getPersonsInCourse(course);
+        model.updateFilteredPersonList(personsInCourse::contains);
+
+        if (personsInCourse.isEmpty()) {
             return new CommandResult("No such course: " + course, false, false, true, false);
         } else {
             return new CommandResult("Listed all persons in " + course, false, false, true, false);
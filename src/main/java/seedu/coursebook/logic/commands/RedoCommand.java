@@ -6,6 +6,7 @@ import static seedu.coursebook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import seedu.coursebook.logic.CommandHistory;
 import seedu.coursebook.logic.commands.exceptions.CommandException;
 import seedu.coursebook.model.Model;
+import seedu.coursebook.model.VersionedCourseBook.HistoryUnavailableException;
 
 /**
  * Reverts the {@code model}'s book to its previous state.
@@ -19,6 +20,8 @@ public class RedoCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Redo success!";
     public static final String MESSAGE_FAILURE = "No more commands to redo!";
+    public static final String MESSAGE_HISTORY_UNAVAILABLE =
+            "Part of the undo history could not be read back from disk and has been cleared.";
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
@@ -28,7 +31,11 @@ public class RedoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.redoCourseBook();
+        try {
+            model.redoCourseBook();
+        } catch (HistoryUnavailableException hue) {
+            throw new CommandException(MESSAGE_HISTORY_UNAVAILABLE, hue);
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         if (model.hasThemeChangedDuringRedo()) {
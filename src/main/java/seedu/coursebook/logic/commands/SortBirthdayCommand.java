@@ -2,13 +2,9 @@ package seedu.coursebook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.Comparator;
-
 import seedu.coursebook.logic.CommandHistory;
 import seedu.coursebook.model.Model;
-import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonSortOrder;
 
 /**
  * Sorts the contact list by how soon each person's next birthday occurs, starting from today's date.
@@ -39,23 +35,7 @@ public class SortBirthdayCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
 
-        Comparator<Person> comparator = Comparator.comparingInt(person -> {
-            if (person.getBirthday() == null) {
-                return Integer.MAX_VALUE;
-            }
-
-            LocalDate today = LocalDate.now();
-            LocalDate birthday = person.getBirthday().getDate();
-            LocalDate nextBirthday = birthday.withYear(today.getYear());
-
-            if (nextBirthday.isBefore(today)) {
-                nextBirthday = nextBirthday.plusYears(1);
-            }
-
-            return (int) ChronoUnit.DAYS.between(today, nextBirthday);
-        });
-
-        model.sortSelectedPersons(comparator);
+        model.setPersonSortOrder(PersonSortOrder.UPCOMING_BIRTHDAY);
         if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult("No contacts to sort by birthday.", false, false, true, false);
         } else {
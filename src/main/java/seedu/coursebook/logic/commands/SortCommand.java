@@ -2,12 +2,11 @@ package seedu.coursebook.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
 import java.util.logging.Logger;
 
 import seedu.coursebook.logic.CommandHistory;
 import seedu.coursebook.model.Model;
-import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonSortOrder;
 
 /**
  * Sorts the contact list by name in ascending or descending order.
@@ -43,15 +42,13 @@ public class SortCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
 
-        Comparator<Person> comparator = Comparator.comparing(p -> p.getName().fullName);
-
-        if ("desc".equalsIgnoreCase(order)) {
-            comparator = comparator.reversed();
-        }
+        PersonSortOrder sortOrder = "desc".equalsIgnoreCase(order)
+                ? PersonSortOrder.NAME_DESCENDING
+                : PersonSortOrder.NAME_ASCENDING;
 
         logger.info("Sorting contacts by name in " + order + " order.");
 
-        model.sortSelectedPersons(comparator);
+        model.setPersonSortOrder(sortOrder);
 
         if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult("No contacts to sort by name.", false, false, true, false);
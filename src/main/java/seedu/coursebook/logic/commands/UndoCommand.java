@@ -5,6 +5,7 @@ import static seedu.coursebook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import seedu.coursebook.logic.CommandHistory;
 import seedu.coursebook.logic.commands.exceptions.CommandException;
 import seedu.coursebook.model.Model;
+import seedu.coursebook.model.VersionedCourseBook.HistoryUnavailableException;
 
 
 
@@ -18,6 +19,8 @@ public class UndoCommand extends Command {
             + "Example: " + COMMAND_WORD;
     public static final String MESSAGE_SUCCESS = "Undo success!";
     public static final String MESSAGE_FAILURE = "No more commands to undo!";
+    public static final String MESSAGE_HISTORY_UNAVAILABLE =
+            "Part of the undo history could not be read back from disk and has been cleared.";
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
@@ -27,7 +30,11 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.undoCourseBook();
+        try {
+            model.undoCourseBook();
+        } catch (HistoryUnavailableException hue) {
+            throw new CommandException(MESSAGE_HISTORY_UNAVAILABLE, hue);
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         // Check if theme changed during undo
@@ -14,4 +14,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_COURSE = new Prefix("c/");
     public static final Prefix PREFIX_SORT = new Prefix("by/");
     public static final Prefix PREFIX_BDAY = new Prefix("b/");
+    public static final Prefix PREFIX_FUZZY_NAME = new Prefix("~n/");
+    public static final Prefix PREFIX_MAX_DISTANCE = new Prefix("d/");
 }
@@ -3,6 +3,8 @@ package seedu.coursebook.logic.parser;
 import static seedu.coursebook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.coursebook.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.coursebook.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.coursebook.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
+import static seedu.coursebook.logic.parser.CliSyntax.PREFIX_MAX_DISTANCE;
 import static seedu.coursebook.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.coursebook.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.coursebook.logic.parser.CliSyntax.PREFIX_TAG;
@@ -11,8 +13,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import seedu.coursebook.logic.Messages;
 import seedu.coursebook.logic.commands.FindCommand;
 import seedu.coursebook.logic.parser.exceptions.ParseException;
+import seedu.coursebook.model.person.FuzzyNamePredicate;
 import seedu.coursebook.model.person.PersonContainsKeywordsPredicate;
 
 /**
@@ -30,6 +34,9 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        if (trimmedArgs.startsWith(PREFIX_FUZZY_NAME.getPrefix())) {
+            return parseFuzzy(args);
+        }
 
         // Reject any unknown/disallowed prefixes immediately
         // Allowed: n/, p/, e/, a/, t/
@@ -102,4 +109,34 @@ public class FindCommandParser implements Parser<FindCommand> {
         return new FindCommand(predicate);
     }
 
+    /**
+     * Parses the arguments of a fuzzy search of names, which only takes {@code ~n/} keywords and an optional maximum
+     * distance.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    private FindCommand parseFuzzy(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FUZZY_NAME, PREFIX_MAX_DISTANCE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MAX_DISTANCE);
+
+        List<String> nameKeywords = new ArrayList<>();
+        for (String value : argMultimap.getAllValues(PREFIX_FUZZY_NAME)) {
+            nameKeywords.addAll(Arrays.asList(value.trim().split("\\s+")));
+        }
+        if (nameKeywords.stream().anyMatch(s -> !s.matches("[A-Za-z]+"))) {
+            throw new ParseException(Messages.MESSAGE_NAME_ALPHA_ONLY);
+        }
+
+        int maxDistance = FuzzyNamePredicate.DEFAULT_MAX_DISTANCE;
+        if (argMultimap.getValue(PREFIX_MAX_DISTANCE).isPresent()) {
+            String distance = argMultimap.getValue(PREFIX_MAX_DISTANCE).get().trim();
+            if (!distance.matches("\\d")
+                    || Integer.parseInt(distance) > FuzzyNamePredicate.MAX_MAX_DISTANCE) {
+                throw new ParseException(FuzzyNamePredicate.MESSAGE_CONSTRAINTS);
+            }
+            maxDistance = Integer.parseInt(distance);
+        }
+
+        return new FindCommand(new FuzzyNamePredicate(nameKeywords, maxDistance));
+    }
+
 }
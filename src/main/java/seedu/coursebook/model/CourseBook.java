@@ -3,6 +3,7 @@ package seedu.coursebook.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
@@ -54,6 +55,15 @@ public class CourseBook implements ReadOnlyCourseBook {
         indicateModified();
     }
 
+    /**
+     * Replaces every person that is a key of {@code replacements} with its value, leaving the other persons as they
+     * are. The identity of each replacement must not be the same as another existing person in the address book.
+     */
+    public void setPersons(Map<Person, Person> replacements) {
+        persons.setPersons(replacements);
+        indicateModified();
+    }
+
     /**
      * Resets the existing data of this {@code CourseBook} with {@code newData}.
      */
@@ -67,6 +77,33 @@ public class CourseBook implements ReadOnlyCourseBook {
         }
     }
 
+    /**
+     * Returns an immutable snapshot of the current data, taken in O(1).
+     */
+    CourseBookState snapshot() {
+        return new CourseBookState(persons.snapshot(), currentTheme);
+    }
+
+    /**
+     * Restores the data captured by {@code state}, without re-validating its persons.
+     */
+    void restore(CourseBookState state) {
+        requireNonNull(state);
+
+        persons.restore(state.getPersons());
+        this.currentTheme = state.getTheme();
+        indicateModified();
+    }
+
+    /**
+     * Replaces the persons in positions {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement},
+     * without re-validating them. Used to replay edits that were recorded from a valid course book.
+     */
+    void replacePersons(int from, int to, List<Person> replacement) {
+        persons.replaceRange(from, to, replacement);
+        indicateModified();
+    }
+
     public void setCurrentTheme(ThemeCommand.Theme theme) {
         this.currentTheme = theme;
         indicateModified();
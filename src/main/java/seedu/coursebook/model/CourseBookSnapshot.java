@@ -0,0 +1,79 @@
+package seedu.coursebook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.coursebook.logic.commands.ThemeCommand;
+import seedu.coursebook.model.person.PersistentPersonList;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * A {@code ReadOnlyCourseBook} that shows a {@code CourseBookState} and never changes.
+ * It wraps the state without copying it, so it can be taken on every change and read from any thread.
+ */
+class CourseBookSnapshot implements ReadOnlyCourseBook {
+
+    private final CourseBookState state;
+    private final ObservableList<Person> personList;
+
+    CourseBookSnapshot(CourseBookState state) {
+        requireNonNull(state);
+        this.state = state;
+        this.personList = new PersonListView(state.getPersons());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public ThemeCommand.Theme getCurrentTheme() {
+        return state.getTheme();
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // A snapshot is never invalidated, so there is nothing to listen to.
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // A snapshot is never invalidated, so there is nothing to listen to.
+    }
+
+    @Override
+    public String toString() {
+        return state.getPersons().toString();
+    }
+
+    /**
+     * An unmodifiable {@code ObservableList} over a {@code PersistentPersonList}. It never fires any change.
+     */
+    private static class PersonListView extends ObservableListBase<Person> {
+        private final PersistentPersonList persons;
+
+        PersonListView(PersistentPersonList persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        public Iterator<Person> iterator() {
+            return persons.iterator();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.coursebook.model;
+
+import static seedu.coursebook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.coursebook.logic.commands.ThemeCommand;
+import seedu.coursebook.model.person.PersistentPersonList;
+
+/**
+ * An immutable snapshot of a {@code CourseBook}, used as one entry of the undo/redo history.
+ * The person list is persistent, so consecutive states share every person that was not changed between them.
+ */
+class CourseBookState {
+
+    private final PersistentPersonList persons;
+    private final ThemeCommand.Theme theme;
+
+    /**
+     * Every field must be present and not null.
+     */
+    CourseBookState(PersistentPersonList persons, ThemeCommand.Theme theme) {
+        requireAllNonNull(persons, theme);
+        this.persons = persons;
+        this.theme = theme;
+    }
+
+    PersistentPersonList getPersons() {
+        return persons;
+    }
+
+    ThemeCommand.Theme getTheme() {
+        return theme;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CourseBookState)) {
+            return false;
+        }
+
+        CourseBookState otherState = (CourseBookState) other;
+        return persons.equals(otherState.persons)
+                && theme == otherState.theme;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, theme);
+    }
+}
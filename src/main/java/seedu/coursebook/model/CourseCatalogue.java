@@ -0,0 +1,190 @@
+package seedu.coursebook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.coursebook.model.course.Course;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * A sorted list of the courses that at least one person is enrolled in, together with an index from each course code
+ * to the persons enrolled in it. Both are kept up to date from the changes of the person list instead of being
+ * rebuilt from every person, so a change only touches the courses of the persons it adds or removes, and only
+ * courses that appear or disappear are inserted into or removed from the list.
+ */
+class CourseCatalogue {
+
+    /** Courses are listed by course code, ignoring case. */
+    static final Comparator<Course> COURSE_ORDER = (c1, c2) -> c1.courseCode.compareToIgnoreCase(c2.courseCode);
+
+    private final Map<String, Set<Person>> enrolledPersons = new HashMap<>();
+    private final ObservableList<Course> internalList = FXCollections.observableArrayList();
+    private final ObservableList<Course> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+
+    /**
+     * Creates a catalogue of the courses of {@code persons}.
+     */
+    CourseCatalogue(List<? extends Person> persons) {
+        requireNonNull(persons);
+        Map<String, Course> courses = new HashMap<>();
+        for (Person person : persons) {
+            for (Course course : person.getCourses()) {
+                enroll(course.courseCode, person);
+                courses.putIfAbsent(course.courseCode, course);
+            }
+        }
+        List<Course> sortedCourses = new ArrayList<>(courses.values());
+        sortedCourses.sort(COURSE_ORDER);
+        internalList.setAll(sortedCourses);
+    }
+
+    /**
+     * Applies the persons added and removed by {@code change} to the catalogue.
+     * Permutations and in-place updates do not change any enrollment, so they are ignored.
+     */
+    void handleChange(ListChangeListener.Change<? extends Person> change) {
+        Map<String, Integer> oldCounts = new LinkedHashMap<>();
+        Map<String, Course> addedCourses = new HashMap<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Person removed : change.getRemoved()) {
+                for (Course course : removed.getCourses()) {
+                    oldCounts.putIfAbsent(course.courseCode, getEnrollmentCount(course.courseCode));
+                    unenroll(course.courseCode, removed);
+                }
+            }
+            for (Person added : change.getAddedSubList()) {
+                for (Course course : added.getCourses()) {
+                    oldCounts.putIfAbsent(course.courseCode, getEnrollmentCount(course.courseCode));
+                    enroll(course.courseCode, added);
+                    addedCourses.put(course.courseCode, course);
+                }
+            }
+        }
+        oldCounts.forEach((courseCode, oldCount) ->
+                updateListedCourse(courseCode, oldCount, addedCourses.get(courseCode)));
+    }
+
+    private void enroll(String courseCode, Person person) {
+        enrolledPersons.computeIfAbsent(courseCode, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add(person);
+    }
+
+    private Set<Person> personsEnrolledIn(String courseCode) {
+        return enrolledPersons.getOrDefault(courseCode, Collections.emptySet());
+    }
+
+    private void unenroll(String courseCode, Person person) {
+        Set<Person> persons = enrolledPersons.get(courseCode);
+        assert persons != null && persons.contains(person) : "Only enrolled persons can be removed";
+        persons.remove(person);
+        if (persons.isEmpty()) {
+            enrolledPersons.remove(courseCode);
+        }
+    }
+
+    /**
+     * Inserts or removes the list entry of {@code courseCode} if its enrollment count became or stopped being zero.
+     * Otherwise, if its enrollment count changed or the course was recoloured, replaces the entry in place, so that
+     * views of the list redraw only that course.
+     *
+     * @param addedCourse the course as held by one of the added persons, or null if no added person holds it.
+     */
+    private void updateListedCourse(String courseCode, int oldCount, Course addedCourse) {
+        int newCount = getEnrollmentCount(courseCode);
+        if (oldCount == 0 && newCount > 0) {
+            int insertionPoint = Collections.binarySearch(internalList, addedCourse, COURSE_ORDER);
+            internalList.add(-insertionPoint - 1, addedCourse);
+        } else if (oldCount > 0 && newCount == 0) {
+            internalList.remove(indexOf(courseCode));
+        } else if (newCount > 0) {
+            int index = indexOf(courseCode);
+            Course listedCourse = internalList.get(index);
+            // Keep the listed course in step with the persons' courses, e.g. after the course is recoloured
+            boolean isRecoloured = addedCourse != null && listedCourse.color != addedCourse.color;
+            if (isRecoloured || newCount != oldCount) {
+                internalList.set(index, isRecoloured ? addedCourse : listedCourse);
+            }
+        }
+    }
+
+    private int indexOf(String courseCode) {
+        int index = Collections.binarySearch(internalList, new Course(courseCode), COURSE_ORDER);
+        assert index >= 0 : "Every enrolled course is listed";
+        return index;
+    }
+
+    /**
+     * Returns the number of persons enrolled in {@code course}, in O(1).
+     */
+    int getEnrollmentCount(Course course) {
+        requireNonNull(course);
+        return getEnrollmentCount(course.courseCode);
+    }
+
+    private int getEnrollmentCount(String courseCode) {
+        Set<Person> persons = enrolledPersons.get(courseCode);
+        return persons == null ? 0 : persons.size();
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the persons enrolled in the course with {@code courseCode}, ignoring
+     * case. Membership is by identity, so it reflects the exact persons held by the person list.
+     * The view looks the course up on each use, so asking for a course nobody is enrolled in adds nothing to the
+     * index.
+     */
+    Set<Person> getPersonsInCourse(String courseCode) {
+        requireNonNull(courseCode);
+        return Collections.unmodifiableSet(new EnrolledPersons(courseCode.toUpperCase()));
+    }
+
+    /**
+     * Returns the listed courses as an unmodifiable {@code ObservableList}, sorted by course code.
+     */
+    ObservableList<Course> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    /**
+     * The persons enrolled in a course, as currently held by the index.
+     */
+    private class EnrolledPersons extends AbstractSet<Person> {
+        private final String courseCode;
+
+        EnrolledPersons(String courseCode) {
+            this.courseCode = courseCode;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return personsEnrolledIn(courseCode).contains(o);
+        }
+
+        @Override
+        public Iterator<Person> iterator() {
+            return personsEnrolledIn(courseCode).iterator();
+        }
+
+        @Override
+        public int size() {
+            return personsEnrolledIn(courseCode).size();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.coursebook.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+import seedu.coursebook.model.person.Person;
+
+/**
+ * Keeps the person lists of old undo/redo states outside the heap, so that a long history fits in a memory budget.
+ * Closing the store releases everything written to it.
+ */
+public interface HistorySpillStore extends Closeable {
+
+    /**
+     * Writes {@code persons} to the store.
+     *
+     * @return the position of the written record, to be passed to {@link #reload(long)}.
+     * @throws IOException if the record could not be written.
+     */
+    long spill(List<Person> persons) throws IOException;
+
+    /**
+     * Reads back the persons written at {@code position}.
+     *
+     * @throws IOException if the record could not be read.
+     */
+    List<Person> reload(long position) throws IOException;
+
+    /**
+     * Returns the number of bytes written to the store so far.
+     */
+    long size();
+}
@@ -0,0 +1,285 @@
+package seedu.coursebook.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import seedu.coursebook.logic.commands.ThemeCommand;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * An {@code UndoHistory} that records, for every commit, only the edits made to the person list and the theme.
+ * Undo and redo replay those edits on the live person list, so list views receive a small change for each edit
+ * instead of a whole-list replacement.
+ */
+class JournalHistory implements UndoHistory {
+
+    /** Approximate size of one journal entry, excluding its edits. */
+    static final long ENTRY_OVERHEAD_BYTES = 32;
+    /** Approximate size of one recorded edit, excluding the references to the persons it holds. */
+    static final long EDIT_OVERHEAD_BYTES = 48;
+    /** Size of one reference to a person held by an edit. */
+    static final long REFERENCE_BYTES = 8;
+
+    private final CourseBook courseBook;
+    private final int maxDepth;
+    private final List<JournalEntry> entries = new ArrayList<>();
+    private final List<PersonListEdit> pendingEdits = new ArrayList<>();
+    private int currentStatePointer;
+    private ThemeCommand.Theme committedTheme;
+    private boolean isReplaying;
+    private long estimatedMemoryUsage;
+
+    /**
+     * Creates a journal for {@code courseBook} whose current data becomes the initial state.
+     *
+     * @param maxDepth maximum number of undoable commits kept, or 0 to keep all of them.
+     */
+    JournalHistory(CourseBook courseBook, int maxDepth) {
+        this.courseBook = courseBook;
+        this.maxDepth = maxDepth;
+        committedTheme = courseBook.getCurrentTheme();
+        courseBook.getPersonList().addListener(this::recordChange);
+    }
+
+    /**
+     * Records every change made to the person list outside of undo and redo as a pending edit.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Person> change) {
+        if (isReplaying) {
+            return;
+        }
+        while (change.next()) {
+            assert !change.wasPermutated() : "UniquePersonList is never permuted in place";
+            pendingEdits.add(new PersonListEdit(change.getFrom(), change.getRemoved(), change.getAddedSubList()));
+        }
+    }
+
+    @Override
+    public void commit() {
+        removeEntriesAfterCurrentPointer();
+        JournalEntry entry = new JournalEntry(pendingEdits, committedTheme, courseBook.getCurrentTheme());
+        pendingEdits.clear();
+        committedTheme = courseBook.getCurrentTheme();
+
+        entries.add(entry);
+        estimatedMemoryUsage += entry.estimateMemoryUsage();
+        currentStatePointer++;
+        if (maxDepth > 0 && currentStatePointer > maxDepth) {
+            estimatedMemoryUsage -= entries.remove(0).estimateMemoryUsage();
+            currentStatePointer--;
+        }
+    }
+
+    private void removeEntriesAfterCurrentPointer() {
+        List<JournalEntry> undoneEntries = entries.subList(currentStatePointer, entries.size());
+        for (JournalEntry entry : undoneEntries) {
+            estimatedMemoryUsage -= entry.estimateMemoryUsage();
+        }
+        undoneEntries.clear();
+    }
+
+    @Override
+    public void undo() {
+        isReplaying = true;
+        try {
+            revertPendingEdits();
+            currentStatePointer--;
+            JournalEntry entry = entries.get(currentStatePointer);
+            entry.revert(courseBook);
+            committedTheme = entry.themeBefore;
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    @Override
+    public void redo() {
+        isReplaying = true;
+        try {
+            revertPendingEdits();
+            JournalEntry entry = entries.get(currentStatePointer);
+            currentStatePointer++;
+            entry.apply(courseBook);
+            committedTheme = entry.themeAfter;
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    @Override
+    public void reset() {
+        entries.clear();
+        pendingEdits.clear();
+        currentStatePointer = 0;
+        committedTheme = courseBook.getCurrentTheme();
+        estimatedMemoryUsage = 0;
+    }
+
+    /**
+     * Discards edits made since the last commit, so that the live data matches the current state again.
+     */
+    private void revertPendingEdits() {
+        for (int i = pendingEdits.size() - 1; i >= 0; i--) {
+            pendingEdits.get(i).revert(courseBook);
+        }
+        pendingEdits.clear();
+        if (courseBook.getCurrentTheme() != committedTheme) {
+            courseBook.setCurrentTheme(committedTheme);
+        }
+    }
+
+    @Override
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    @Override
+    public boolean canRedo() {
+        return currentStatePointer < entries.size();
+    }
+
+    /**
+     * Returns an estimate that counts the journal's own records and person references. Persons held by the
+     * journal are mostly shared with the live course book, so they are not counted.
+     */
+    @Override
+    public long getEstimatedMemoryUsage() {
+        return estimatedMemoryUsage;
+    }
+
+    @Override
+    public UndoHistoryStats getStats() {
+        return new UndoHistoryStats(entries.size() + 1, 0, estimatedMemoryUsage, 0, 0, 0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JournalHistory)) {
+            return false;
+        }
+
+        JournalHistory otherHistory = (JournalHistory) other;
+        return entries.equals(otherHistory.entries)
+                && pendingEdits.equals(otherHistory.pendingEdits)
+                && currentStatePointer == otherHistory.currentStatePointer;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entries, pendingEdits, currentStatePointer);
+    }
+
+    /**
+     * The edits and theme change made by one commit.
+     */
+    private static class JournalEntry {
+        private final List<PersonListEdit> edits;
+        private final ThemeCommand.Theme themeBefore;
+        private final ThemeCommand.Theme themeAfter;
+
+        JournalEntry(List<PersonListEdit> edits, ThemeCommand.Theme themeBefore, ThemeCommand.Theme themeAfter) {
+            this.edits = List.copyOf(edits);
+            this.themeBefore = themeBefore;
+            this.themeAfter = themeAfter;
+        }
+
+        void apply(CourseBook courseBook) {
+            edits.forEach(edit -> edit.apply(courseBook));
+            if (themeBefore != themeAfter) {
+                courseBook.setCurrentTheme(themeAfter);
+            }
+        }
+
+        void revert(CourseBook courseBook) {
+            for (int i = edits.size() - 1; i >= 0; i--) {
+                edits.get(i).revert(courseBook);
+            }
+            if (themeBefore != themeAfter) {
+                courseBook.setCurrentTheme(themeBefore);
+            }
+        }
+
+        long estimateMemoryUsage() {
+            return ENTRY_OVERHEAD_BYTES + edits.stream().mapToLong(PersonListEdit::estimateMemoryUsage).sum();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof JournalEntry)) {
+                return false;
+            }
+
+            JournalEntry otherEntry = (JournalEntry) other;
+            return edits.equals(otherEntry.edits)
+                    && themeBefore == otherEntry.themeBefore
+                    && themeAfter == otherEntry.themeAfter;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(edits, themeBefore, themeAfter);
+        }
+    }
+
+    /**
+     * One contiguous change to the person list: {@code removed} persons starting at {@code from} were replaced by
+     * {@code added} persons.
+     */
+    private static class PersonListEdit {
+        private final int from;
+        private final List<Person> removed;
+        private final List<Person> added;
+
+        PersonListEdit(int from, List<? extends Person> removed, List<? extends Person> added) {
+            this.from = from;
+            this.removed = List.copyOf(removed);
+            this.added = List.copyOf(added);
+        }
+
+        void apply(CourseBook courseBook) {
+            courseBook.replacePersons(from, from + removed.size(), added);
+        }
+
+        void revert(CourseBook courseBook) {
+            courseBook.replacePersons(from, from + added.size(), removed);
+        }
+
+        long estimateMemoryUsage() {
+            return EDIT_OVERHEAD_BYTES + (removed.size() + added.size()) * REFERENCE_BYTES;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof PersonListEdit)) {
+                return false;
+            }
+
+            PersonListEdit otherEdit = (PersonListEdit) other;
+            return from == otherEdit.from
+                    && removed.equals(otherEdit.removed)
+                    && added.equals(otherEdit.added);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, removed, added);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.coursebook.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -12,6 +13,7 @@ import seedu.coursebook.logic.commands.ThemeCommand;
 import seedu.coursebook.model.course.Course;
 import seedu.coursebook.model.course.CourseColor;
 import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonSortOrder;
 
 /**
  * The API of the Model component.
@@ -57,9 +59,26 @@ public interface Model {
      */
     void setCourseBook(ReadOnlyCourseBook courseBook);
 
+    /**
+     * Replaces course book data with the data in {@code courseBook} as its initial state, which cannot be undone, and
+     * marks the course book as loaded.
+     */
+    void loadCourseBook(ReadOnlyCourseBook courseBook);
+
+    /**
+     * Returns false while the course book is still being loaded from storage, during which it is empty.
+     */
+    boolean isCourseBookLoaded();
+
     /** Returns the CourseBook */
     ReadOnlyCourseBook getCourseBook();
 
+    /**
+     * Returns an unchanging copy of the current CourseBook, taken in O(1).
+     * Unlike {@link #getCourseBook()}, it can be read from another thread while the model keeps changing.
+     */
+    ReadOnlyCourseBook getCourseBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the course book.
      */
@@ -118,6 +137,16 @@ public interface Model {
      */
     void commitCourseBook();
 
+    /**
+     * Returns the estimated number of bytes retained by the undo/redo history.
+     */
+    long getUndoHistoryMemoryUsage();
+
+    /**
+     * Returns the current metrics of the undo/redo history, such as its size and how much of it is spilled to disk.
+     */
+    UndoHistoryStats getUndoHistoryStats();
+
     /**
      * Selected person in the filtered person list.
      * null if no person is selected.
@@ -136,9 +165,16 @@ public interface Model {
     void setSelectedPerson(Person person);
 
     /**
-     * Sorts the filtered list of persons using the specified comparator.
+     * Displays the filtered list of persons sorted by {@code comparator}, or in their stored order if it is null.
+     * Only the view is sorted; the course book itself is not changed.
      */
     void sortSelectedPersons(Comparator<Person> comparator);
+
+    /**
+     * Displays the filtered list of persons in {@code sortOrder} and remembers it in the user prefs.
+     */
+    void setPersonSortOrder(PersonSortOrder sortOrder);
+
     /** Returns an unmodifiable view of the filtered course list */
     ObservableList<Course> getFilteredCourseList();
 
@@ -148,8 +184,20 @@ public interface Model {
      */
     void updateFilteredCourseList(Predicate<Course> predicate);
 
+    /**
+     * Returns an unmodifiable, live view of the persons enrolled in the course with {@code courseCode}, ignoring case.
+     * The view is kept up to date as persons change, and contains the exact person objects in the course book.
+     */
+    Set<Person> getPersonsInCourse(String courseCode);
+
+    /**
+     * Returns the number of persons enrolled in {@code course}.
+     */
+    int getCourseEnrollmentCount(Course course);
+
     /**
      * Sets the color for a given course code globally across all persons.
+     * Only the persons enrolled in the course are replaced, and the change is not committed to the undo history.
      */
     void setCourseColor(String courseCode, CourseColor color);
 
@@ -7,25 +7,29 @@ import static seedu.coursebook.logic.commands.ThemeCommand.MESSAGE_SUCCESS;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.List;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.coursebook.commons.core.GuiSettings;
 import seedu.coursebook.commons.core.LogsCenter;
 import seedu.coursebook.logic.commands.CommandResult;
 import seedu.coursebook.logic.commands.ThemeCommand;
 import seedu.coursebook.model.course.Course;
 import seedu.coursebook.model.course.CourseColor;
+import seedu.coursebook.model.person.FuzzyNamePredicate;
 import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonContainsKeywordsPredicate;
+import seedu.coursebook.model.person.PersonSearchIndex;
+import seedu.coursebook.model.person.PersonSortOrder;
 import seedu.coursebook.model.person.exceptions.PersonNotFoundException;
 
 /**
@@ -36,49 +40,64 @@ public class ModelManager implements Model {
 
     private final VersionedCourseBook versionedCourseBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final PersonSearchIndex personSearchIndex;
+    private final ParallelFilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final SimpleObjectProperty<Person> selectedPerson = new SimpleObjectProperty<>();
-    private final ObservableList<Course> courseList;
+    private final CourseCatalogue courseCatalogue;
     private final FilteredList<Course> filteredCourses;
     private boolean themeChangedDuringUndo = false;
     private boolean themeChangedDuringRedo = false;
+    private boolean isCourseBookLoaded = true;
+    private boolean isRankedByFuzzySearch = false;
+
     /**
-     * Initializes a ModelManager with the given CourseBook and userPrefs.
+     * Initializes a ModelManager with the given CourseBook and userPrefs, keeping the whole undo history in memory.
      */
     public ModelManager(ReadOnlyCourseBook courseBook, ReadOnlyUserPrefs userPrefs) {
+        this(courseBook, userPrefs, null);
+    }
+
+    /**
+     * Initializes a ModelManager with the given CourseBook and userPrefs.
+     * Undo states over the memory budget in {@code userPrefs} are spilled to {@code historySpillStore}, if given.
+     */
+    public ModelManager(ReadOnlyCourseBook courseBook, ReadOnlyUserPrefs userPrefs,
+            HistorySpillStore historySpillStore) {
         requireAllNonNull(courseBook, userPrefs);
 
         logger.fine("Initializing with address book: " + courseBook + " and user prefs " + userPrefs);
 
-        versionedCourseBook = new VersionedCourseBook(courseBook);
+        versionedCourseBook = new VersionedCourseBook(courseBook, userPrefs.getUndoHistoryMode(),
+                userPrefs.getUndoHistoryDepth(), userPrefs.getUndoHistoryMemoryBudget(), historySpillStore);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(versionedCourseBook.getPersonList());
-        filteredPersons.addListener(this::ensureSelectedPersonIsValid);
 
-        // Initialize course list
-        courseList = FXCollections.observableArrayList();
-        updateCourseList();
-        filteredCourses = new FilteredList<>(courseList);
+        // Keep the course list and enrollment index in step with the persons added and removed by each change.
+        // The catalogue listens before the filtered list is created, so predicates that read the enrollment index
+        // see it already updated when the filtered list re-tests changed persons.
+        courseCatalogue = new CourseCatalogue(versionedCourseBook.getPersonList());
+        versionedCourseBook.getPersonList().addListener(courseCatalogue::handleChange);
+        filteredCourses = new FilteredList<>(courseCatalogue.asUnmodifiableObservableList());
 
-        // Update course list whenever person list changes
-        versionedCourseBook.getPersonList().addListener((ListChangeListener<Person>) change -> updateCourseList());
-    }
+        // Likewise, the search index tracks the persons added by a change before the filtered list re-tests them
+        personSearchIndex = new PersonSearchIndex(versionedCourseBook.getPersonList());
+        versionedCourseBook.getPersonList().addListener(personSearchIndex::handleChange);
 
-    public ModelManager() {
-        this(new CourseBook(), new UserPrefs());
+        filteredPersons = new ParallelFilteredList<>(versionedCourseBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons, this.userPrefs.getPersonSortOrder().getComparator());
+        sortedPersons.addListener(this::ensureSelectedPersonIsValid);
     }
 
     /**
-     * Updates the course list based on the current persons in the address book.
+     * Initializes a ModelManager with an empty CourseBook that is loaded later with {@link #loadCourseBook}.
      */
-    private void updateCourseList() {
-        Set<Course> uniqueCourses = new HashSet<>();
-        for (Person person : versionedCourseBook.getPersonList()) {
-            uniqueCourses.addAll(person.getCourses());
-        }
-        courseList.setAll(uniqueCourses.stream()
-                .sorted((c1, c2) -> c1.courseCode.compareToIgnoreCase(c2.courseCode))
-                .collect(Collectors.toList()));
+    public ModelManager(ReadOnlyUserPrefs userPrefs, HistorySpillStore historySpillStore) {
+        this(new CourseBook(), userPrefs, historySpillStore);
+        isCourseBookLoaded = false;
+    }
+
+    public ModelManager() {
+        this(new CourseBook(), new UserPrefs());
     }
 
     //=========== UserPrefs ==================================================================================
@@ -123,11 +142,28 @@ public class ModelManager implements Model {
         versionedCourseBook.resetData(courseBook);
     }
 
+    @Override
+    public void loadCourseBook(ReadOnlyCourseBook courseBook) {
+        requireNonNull(courseBook);
+        versionedCourseBook.resetDataAndHistory(courseBook);
+        isCourseBookLoaded = true;
+    }
+
+    @Override
+    public boolean isCourseBookLoaded() {
+        return isCourseBookLoaded;
+    }
+
     @Override
     public ReadOnlyCourseBook getCourseBook() {
         return versionedCourseBook;
     }
 
+    @Override
+    public ReadOnlyCourseBook getCourseBookSnapshot() {
+        return new CourseBookSnapshot(versionedCourseBook.snapshot());
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -156,34 +192,56 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedCourseBook}
+     * {@code versionedCourseBook}, filtered by the current predicate and sorted by the current comparator.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate instanceof PersonContainsKeywordsPredicate) {
+            // Only test the persons that the search index cannot rule out
+            filteredPersons.setPredicate(personSearchIndex.narrow((PersonContainsKeywordsPredicate) predicate));
+        } else if (predicate instanceof FuzzyNamePredicate) {
+            FuzzyNamePredicate fuzzyPredicate = (FuzzyNamePredicate) predicate;
+            filteredPersons.setPredicate(personSearchIndex.narrow(fuzzyPredicate));
+            rankByFuzzySearch(fuzzyPredicate);
+            return;
+        } else {
+            filteredPersons.setPredicate(predicate);
+        }
+        if (isRankedByFuzzySearch) {
+            sortSelectedPersons(userPrefs.getPersonSortOrder().getComparator());
+        }
+    }
+
+    /**
+     * Orders the persons from the closest to the furthest match of {@code predicate}, and persons that match equally
+     * closely by the sort order of the user, until the person list is filtered or sorted again.
+     */
+    private void rankByFuzzySearch(FuzzyNamePredicate predicate) {
+        Comparator<Person> sortOrder = userPrefs.getPersonSortOrder().getComparator();
+        Comparator<Person> ranking = predicate.getRanking();
+        sortedPersons.setComparator(sortOrder == null ? ranking : ranking.thenComparing(sortOrder));
+        isRankedByFuzzySearch = true;
     }
 
     //=========== Sorted Person List =============================================================
+
     @Override
     public void sortSelectedPersons(Comparator<Person> comparator) {
-        requireNonNull(comparator);
-        List<Person> sortedList = versionedCourseBook.getPersonList()
-                .stream()
-                .sorted(comparator)
-                .toList();
-
-        CourseBook sortedCourseBook = new CourseBook();
-        for (Person person : sortedList) {
-            sortedCourseBook.addPerson(person);
-        }
+        sortedPersons.setComparator(comparator);
+        isRankedByFuzzySearch = false;
+    }
 
-        setCourseBook(sortedCourseBook);
+    @Override
+    public void setPersonSortOrder(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        userPrefs.setPersonSortOrder(sortOrder);
+        sortSelectedPersons(sortOrder.getComparator());
     }
 
     //============ Undo/Redo =====================================================================================
@@ -229,28 +287,46 @@ public class ModelManager implements Model {
         versionedCourseBook.commit();
     }
 
+    @Override
+    public long getUndoHistoryMemoryUsage() {
+        return versionedCourseBook.getHistoryMemoryUsage();
+    }
+
+    @Override
+    public UndoHistoryStats getUndoHistoryStats() {
+        return versionedCourseBook.getHistoryStats();
+    }
+
+    /**
+     * Recolours {@code courseCode} by replacing only the persons enrolled in it, found through the enrollment index.
+     * Each of them fires a single-element change, so only their rows and the course's card are redrawn.
+     * The change is not committed, so that the calling command commits it together with its other changes.
+     */
     @Override
     public void setCourseColor(String courseCode, CourseColor color) {
         if (courseCode == null || color == null) {
             return;
         }
-        List<Person> updated = versionedCourseBook.getPersonList().stream().map(person -> {
-            Set<Course> updatedCourses = person.getCourses().stream().map(c -> {
-                if (c.courseCode.equalsIgnoreCase(courseCode)) {
-                    return new Course(c.courseCode, color);
+        Map<Person, Person> recoloured = new IdentityHashMap<>();
+        for (Person person : courseCatalogue.getPersonsInCourse(courseCode)) {
+            Set<Course> courses = new HashSet<>();
+            boolean isChanged = false;
+            for (Course course : person.getCourses()) {
+                if (course.courseCode.equalsIgnoreCase(courseCode) && course.color != color) {
+                    courses.add(new Course(course.courseCode, color));
+                    isChanged = true;
+                } else {
+                    courses.add(course);
                 }
-                return c;
-            }).collect(Collectors.toCollection(HashSet::new));
-            return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
-                    person.getTags(), updatedCourses, person.getBirthday(), person.isFavourite());
-        }).collect(Collectors.toList());
-
-        CourseBook newBook = new CourseBook();
-        for (Person p : updated) {
-            newBook.addPerson(p);
+            }
+            if (isChanged) {
+                recoloured.put(person, new Person(person.getName(), person.getPhone(), person.getEmail(),
+                        person.getAddress(), person.getTags(), courses, person.getBirthday(), person.isFavourite()));
+            }
+        }
+        if (!recoloured.isEmpty()) {
+            versionedCourseBook.setPersons(recoloured);
         }
-        setCourseBook(newBook);
-        commitCourseBook();
     }
 
     @Override
@@ -283,14 +359,14 @@ public class ModelManager implements Model {
 
     @Override
     public void setSelectedPerson(Person person) {
-        if (person != null && !filteredPersons.contains(person)) {
+        if (person != null && !sortedPersons.contains(person)) {
             throw new PersonNotFoundException();
         }
         selectedPerson.setValue(person);
     }
 
     /**
-     * Ensures {@code selectedPerson} is a valid person in {@code filteredPersons}.
+     * Ensures {@code selectedPerson} is a valid person in {@code sortedPersons}.
      */
     private void ensureSelectedPersonIsValid(ListChangeListener.Change<? extends Person> change) {
         while (change.next()) {
@@ -335,6 +411,16 @@ public class ModelManager implements Model {
         filteredCourses.setPredicate(predicate);
     }
 
+    @Override
+    public Set<Person> getPersonsInCourse(String courseCode) {
+        return courseCatalogue.getPersonsInCourse(courseCode);
+    }
+
+    @Override
+    public int getCourseEnrollmentCount(Course course) {
+        return courseCatalogue.getEnrollmentCount(course);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -349,6 +435,6 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return versionedCourseBook.equals(otherModelManager.versionedCourseBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedPersons.equals(otherModelManager.sortedPersons);
     }
 }
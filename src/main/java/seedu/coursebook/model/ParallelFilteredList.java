@@ -0,0 +1,281 @@
+package seedu.coursebook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of an observable list, like {@code FilteredList}, that tests the elements of a large list on a
+ * fork-join pool.
+ * <p>
+ * Setting the predicate copies the elements of the source into an array, splits it into chunks tested in parallel,
+ * and then replaces the view with the matching indices in one change. Lists smaller than the parallel threshold are
+ * tested on the calling thread, as splitting them costs more than it saves. Changes of the source are applied as
+ * they come, testing only the added or updated elements, and large additions such as an undo are tested in parallel.
+ * <p>
+ * As the predicate may be tested on several threads at once, it must not depend on any state that it changes.
+ */
+class ParallelFilteredList<E> extends TransformationList<E, E> {
+
+    /** Size of the smallest list that is tested in parallel. */
+    static final int PARALLEL_THRESHOLD = 16_384;
+
+    /** Number of elements tested by each task of a parallel scan. */
+    private static final int CHUNK_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+    private Predicate<? super E> predicate;
+    private int[] filtered;
+    private int size;
+
+    /**
+     * Creates a view of every element of {@code source}, which tests large lists on the common fork-join pool.
+     */
+    ParallelFilteredList(ObservableList<? extends E> source) {
+        this(source, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a view of every element of {@code source}, which tests lists of at least {@code parallelThreshold}
+     * elements on {@code pool}.
+     */
+    ParallelFilteredList(ObservableList<? extends E> source, ForkJoinPool pool, int parallelThreshold) {
+        super(source);
+        requireNonNull(pool);
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.filtered = findMatches(source);
+        this.size = filtered.length;
+    }
+
+    Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows only the elements that match {@code predicate}, or every element if it is null, in one change.
+     */
+    void setPredicate(Predicate<? super E> predicate) {
+        this.predicate = predicate;
+        int[] matches = findMatches(getSource());
+
+        List<E> removed = new ArrayList<>(this);
+        filtered = matches;
+        size = matches.length;
+        beginChange();
+        nextReplace(0, size, removed);
+        endChange();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return getSource().get(filtered[index]);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Arrays.binarySearch(filtered, 0, size, index);
+        return position < 0 ? -1 : position;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the indices of the elements of {@code elements} that match the predicate, in increasing order.
+     */
+    private int[] findMatches(List<? extends E> elements) {
+        int count = elements.size();
+        if (predicate == null) {
+            int[] all = new int[count];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+
+        Object[] array = elements.toArray();
+        boolean[] isMatch = new boolean[count];
+        if (count < parallelThreshold) {
+            new Scan<E>(predicate, array, isMatch, 0, count).scanSequentially();
+        } else {
+            pool.invoke(new Scan<E>(predicate, array, isMatch, 0, count));
+        }
+
+        int[] matches = new int[count];
+        int matchCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (isMatch[i]) {
+                matches[matchCount++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    private boolean test(E element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    /**
+     * Returns the position in the view of the first element at or after {@code sourceIndex} in the source.
+     */
+    private int findPosition(int sourceIndex) {
+        int position = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return position < 0 ? -position - 1 : position;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (filtered.length < capacity) {
+            filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length * 2));
+        }
+    }
+
+    private void addRemove(Change<? extends E> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int shift = change.getAddedSize() - removedSize;
+        int position = findPosition(from);
+        int end = findPosition(from + removedSize);
+
+        if (end > position) {
+            List<E> removed = new ArrayList<>(end - position);
+            for (int i = position; i < end; i++) {
+                removed.add(change.getRemoved().get(filtered[i] - from));
+            }
+            nextRemove(position, removed);
+        }
+
+        int[] added = findMatches(change.getAddedSubList());
+        ensureCapacity(size - (end - position) + added.length);
+        System.arraycopy(filtered, end, filtered, position + added.length, size - end);
+        size = size - (end - position) + added.length;
+        for (int i = position + added.length; i < size; i++) {
+            filtered[i] += shift;
+        }
+        for (int i = 0; i < added.length; i++) {
+            filtered[position + i] = from + added[i];
+        }
+        if (added.length > 0) {
+            nextAdd(position, position + added.length);
+        }
+    }
+
+    private void update(Change<? extends E> change) {
+        for (int sourceIndex = change.getFrom(); sourceIndex < change.getTo(); sourceIndex++) {
+            E element = getSource().get(sourceIndex);
+            int position = findPosition(sourceIndex);
+            boolean wasShown = position < size && filtered[position] == sourceIndex;
+            boolean isShown = test(element);
+            if (wasShown && isShown) {
+                nextUpdate(position);
+            } else if (wasShown) {
+                System.arraycopy(filtered, position + 1, filtered, position, size - position - 1);
+                size--;
+                nextRemove(position, element);
+            } else if (isShown) {
+                ensureCapacity(size + 1);
+                System.arraycopy(filtered, position, filtered, position + 1, size - position);
+                filtered[position] = sourceIndex;
+                size++;
+                nextAdd(position, position + 1);
+            }
+        }
+    }
+
+    private void permute(Change<? extends E> change) {
+        int position = findPosition(change.getFrom());
+        int end = findPosition(change.getTo());
+        int count = end - position;
+        if (count == 0) {
+            return;
+        }
+
+        // Sorts the new source indices of the shown elements, each packed with its old offset in the view
+        long[] moves = new long[count];
+        for (int i = 0; i < count; i++) {
+            moves[i] = ((long) change.getPermutation(filtered[position + i]) << 32) | i;
+        }
+        Arrays.sort(moves);
+        int[] permutation = new int[count];
+        for (int i = 0; i < count; i++) {
+            filtered[position + i] = (int) (moves[i] >>> 32);
+            permutation[(int) moves[i]] = position + i;
+        }
+        nextPermutation(position, end, permutation);
+    }
+
+    /**
+     * Tests a range of the copied elements against a predicate, splitting it into chunks tested in parallel.
+     */
+    private static class Scan<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Predicate<? super E> predicate;
+        private final Object[] elements;
+        private final boolean[] isMatch;
+        private final int from;
+        private final int to;
+
+        Scan(Predicate<? super E> predicate, Object[] elements, boolean[] isMatch, int from, int to) {
+            this.predicate = predicate;
+            this.elements = elements;
+            this.isMatch = isMatch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                scanSequentially();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Scan<E>(predicate, elements, isMatch, from, middle),
+                    new Scan<E>(predicate, elements, isMatch, middle, to));
+        }
+
+        @SuppressWarnings("unchecked")
+        void scanSequentially() {
+            for (int i = from; i < to; i++) {
+                isMatch[i] = predicate.test((E) elements[i]);
+            }
+        }
+    }
+}
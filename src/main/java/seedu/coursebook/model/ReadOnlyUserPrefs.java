@@ -3,6 +3,7 @@ package seedu.coursebook.model;
 import java.nio.file.Path;
 
 import seedu.coursebook.commons.core.GuiSettings;
+import seedu.coursebook.model.person.PersonSortOrder;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,28 @@ public interface ReadOnlyUserPrefs {
 
     Path getCourseBookFilePath();
 
+    VersionedCourseBook.HistoryMode getUndoHistoryMode();
+
+    int getUndoHistoryDepth();
+
+    long getUndoHistoryMemoryBudget();
+
+    PersonSortOrder getPersonSortOrder();
+
+    boolean isDataFileCompact();
+
+    boolean isDataFileJournalled();
+
+    boolean isDataFileBinary();
+
+    int getDataFileBackupCount();
+
+    boolean isDataFileLoadedInBackground();
+
+    int getDataFileCompressionLevel();
+
+    boolean isDataFileSharded();
+
+    boolean isLiveFindEnabled();
+
 }
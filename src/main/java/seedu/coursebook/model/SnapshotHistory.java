@@ -0,0 +1,366 @@
+package seedu.coursebook.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.coursebook.commons.core.LogsCenter;
+import seedu.coursebook.logic.commands.ThemeCommand;
+import seedu.coursebook.model.person.PersistentPersonList;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * An {@code UndoHistory} that keeps a {@code CourseBookState} snapshot for every commit.
+ * Snapshots share unchanged persons through their persistent person lists, so each commit is O(1).
+ * When a memory budget and a {@code HistorySpillStore} are given, the oldest states are written to the store once
+ * the history's estimated memory usage exceeds the budget, and read back only when they are undone or redone to.
+ * States are written on a background thread, and kept in memory until they are written, so a commit never waits for
+ * the store. Without a budget, the memory usage is not estimated, so a commit stays O(1).
+ */
+class SnapshotHistory implements UndoHistory {
+
+    /** Approximate size of one state record, excluding the persons it holds. */
+    static final long STATE_OVERHEAD_BYTES = 32;
+    /** Approximate size of one person and its fields. */
+    static final long PERSON_BYTES = 512;
+
+    private static final Logger logger = LogsCenter.getLogger(SnapshotHistory.class);
+
+    private final CourseBook courseBook;
+    private final int maxDepth;
+    private final long memoryBudget;
+    private final HistorySpillStore spillStore;
+    private final Executor spillExecutor;
+    private final List<StoredState> courseBookStateList = new ArrayList<>();
+    private int currentStatePointer;
+    private long estimatedMemoryUsage;
+    private long pendingReleaseBytes;
+    private long spilledBytes;
+    private int spilledStateCount;
+    private int reloadCount;
+    private long lastReloadNanos;
+
+    /**
+     * Creates a history for {@code courseBook} that keeps every state in memory.
+     *
+     * @param maxDepth maximum number of undoable commits kept, or 0 to keep all of them.
+     */
+    SnapshotHistory(CourseBook courseBook, int maxDepth) {
+        this(courseBook, maxDepth, 0, null);
+    }
+
+    /**
+     * Creates a history for {@code courseBook} whose current data becomes the initial state.
+     *
+     * @param maxDepth maximum number of undoable commits kept, or 0 to keep all of them.
+     * @param memoryBudget estimated number of bytes the history may retain before spilling, or 0 for no limit.
+     * @param spillStore where states over the budget are written, or null to keep every state in memory.
+     */
+    SnapshotHistory(CourseBook courseBook, int maxDepth, long memoryBudget, HistorySpillStore spillStore) {
+        this(courseBook, maxDepth, memoryBudget, spillStore, spillStore == null ? null : createSpillExecutor());
+    }
+
+    /**
+     * Creates a history for {@code courseBook} that writes states to {@code spillStore} by running the writes on
+     * {@code spillExecutor}.
+     */
+    SnapshotHistory(CourseBook courseBook, int maxDepth, long memoryBudget, HistorySpillStore spillStore,
+            Executor spillExecutor) {
+        this.courseBook = courseBook;
+        this.maxDepth = maxDepth;
+        this.memoryBudget = memoryBudget;
+        this.spillStore = spillStore;
+        this.spillExecutor = spillExecutor;
+        addState(courseBook.snapshot());
+        currentStatePointer = 0;
+    }
+
+    private static Executor createSpillExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CourseBook-history-spill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private boolean isSpillingEnabled() {
+        return memoryBudget > 0 && spillStore != null;
+    }
+
+    @Override
+    public synchronized void commit() {
+        removeStatesAfterCurrentPointer();
+        StoredState previous = courseBookStateList.get(currentStatePointer);
+        CourseBookState current = courseBook.snapshot();
+        if (isSpillingEnabled() && !previous.isSpilled()) {
+            // The previous state now retains only the persons that this commit replaced or removed
+            int retainedPersons = previous.state.getPersons().countPersonsNotIn(current.getPersons());
+            setRetainedBytes(previous, STATE_OVERHEAD_BYTES + retainedPersons * PERSON_BYTES);
+        }
+        addState(current);
+        currentStatePointer++;
+        if (maxDepth > 0 && currentStatePointer > maxDepth) {
+            removeState(0);
+            currentStatePointer--;
+        }
+        spillOverBudgetStates();
+    }
+
+    private void removeStatesAfterCurrentPointer() {
+        while (courseBookStateList.size() > currentStatePointer + 1) {
+            removeState(courseBookStateList.size() - 1);
+        }
+    }
+
+    private void addState(CourseBookState state) {
+        StoredState stored = new StoredState(state);
+        courseBookStateList.add(stored);
+        setRetainedBytes(stored, STATE_OVERHEAD_BYTES);
+    }
+
+    private void removeState(int index) {
+        StoredState removed = courseBookStateList.remove(index);
+        estimatedMemoryUsage -= removed.retainedBytes;
+        if (removed.isSpilling) {
+            // The write still completes, but the state it writes is no longer part of the history
+            pendingReleaseBytes -= removed.pendingReleaseBytes;
+            removed.isSpilling = false;
+            removed.isRemoved = true;
+        }
+        if (removed.isSpilled()) {
+            spilledBytes -= removed.spilledBytes;
+            spilledStateCount--;
+        }
+    }
+
+    private void setRetainedBytes(StoredState stored, long retainedBytes) {
+        estimatedMemoryUsage += retainedBytes - stored.retainedBytes;
+        stored.retainedBytes = retainedBytes;
+    }
+
+    /**
+     * Schedules the oldest states other than the current one to be spilled, until the estimated memory usage left once
+     * they are written fits the budget.
+     */
+    private void spillOverBudgetStates() {
+        if (!isSpillingEnabled()) {
+            return;
+        }
+        for (int i = 0; i < courseBookStateList.size()
+                && estimatedMemoryUsage - pendingReleaseBytes > memoryBudget; i++) {
+            StoredState stored = courseBookStateList.get(i);
+            if (i == currentStatePointer || stored.isSpilled() || stored.isSpilling) {
+                continue;
+            }
+            stored.isSpilling = true;
+            stored.pendingReleaseBytes = stored.retainedBytes - STATE_OVERHEAD_BYTES;
+            pendingReleaseBytes += stored.pendingReleaseBytes;
+            PersistentPersonList persons = stored.state.getPersons();
+            spillExecutor.execute(() -> spill(stored, persons));
+        }
+    }
+
+    /**
+     * Writes {@code persons} of {@code stored} to the spill store on the spill thread, and then drops them from memory.
+     * If the spill store fails, the state is kept in memory.
+     */
+    private void spill(StoredState stored, PersistentPersonList persons) {
+        long position;
+        long writtenBytes;
+        try {
+            // The store is only written from this thread, so its size only grows by this record meanwhile
+            long sizeBefore = spillStore.size();
+            position = spillStore.spill(persons.toList());
+            writtenBytes = spillStore.size() - sizeBefore;
+        } catch (IOException ioe) {
+            logger.warning("Could not spill undo history, keeping it in memory: " + ioe);
+            finishSpill(stored, -1, 0);
+            return;
+        }
+        finishSpill(stored, position, writtenBytes);
+        logger.fine("Spilled an undo state of " + writtenBytes + " bytes");
+    }
+
+    /**
+     * Drops the persons of {@code stored} once they are written at {@code position}, or keeps them if the position is
+     * negative, unless the state was removed from the history meanwhile.
+     */
+    private synchronized void finishSpill(StoredState stored, long position, long writtenBytes) {
+        if (stored.isRemoved) {
+            return;
+        }
+        stored.isSpilling = false;
+        pendingReleaseBytes -= stored.pendingReleaseBytes;
+        if (position < 0) {
+            return;
+        }
+        stored.spillPosition = position;
+        stored.spilledBytes = writtenBytes;
+        stored.state = null;
+        setRetainedBytes(stored, STATE_OVERHEAD_BYTES);
+        spilledBytes += writtenBytes;
+        spilledStateCount++;
+    }
+
+    @Override
+    public synchronized void undo() {
+        CourseBookState state = loadState(currentStatePointer - 1);
+        currentStatePointer--;
+        courseBook.restore(state);
+    }
+
+    @Override
+    public synchronized void redo() {
+        CourseBookState state = loadState(currentStatePointer + 1);
+        currentStatePointer++;
+        courseBook.restore(state);
+    }
+
+    @Override
+    public synchronized void reset() {
+        while (!courseBookStateList.isEmpty()) {
+            removeState(courseBookStateList.size() - 1);
+        }
+        addState(courseBook.snapshot());
+        currentStatePointer = 0;
+    }
+
+    /**
+     * Returns the state at {@code index}, reading it back from the spill store if it was spilled.
+     * Spilled states stay in the store, so moving through old history does not grow the heap.
+     * If the state cannot be read back, it is discarded along with every state beyond it.
+     */
+    private CourseBookState loadState(int index) {
+        StoredState stored = courseBookStateList.get(index);
+        if (!stored.isSpilled()) {
+            return stored.state;
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<Person> persons = spillStore.reload(stored.spillPosition);
+            lastReloadNanos = System.nanoTime() - start;
+            reloadCount++;
+            logger.fine("Reloaded a spilled undo state in " + lastReloadNanos / 1000 + " us");
+            return new CourseBookState(PersistentPersonList.of(persons), stored.theme);
+        } catch (IOException ioe) {
+            logger.severe("Could not reload spilled undo history: " + ioe);
+            discardStatesBeyond(index);
+            throw new VersionedCourseBook.HistoryUnavailableException(ioe);
+        }
+    }
+
+    /**
+     * Discards the state at {@code index} and every state further from the current one in the same direction.
+     */
+    private void discardStatesBeyond(int index) {
+        if (index > currentStatePointer) {
+            while (courseBookStateList.size() > index) {
+                removeState(courseBookStateList.size() - 1);
+            }
+            return;
+        }
+        for (int i = 0; i <= index; i++) {
+            removeState(0);
+            currentStatePointer--;
+        }
+    }
+
+    @Override
+    public synchronized boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    @Override
+    public synchronized boolean canRedo() {
+        return currentStatePointer < courseBookStateList.size() - 1;
+    }
+
+    /**
+     * Returns an estimate of the memory retained by the states kept in memory. Each state is charged for the persons
+     * it holds that the state after it does not, as the other persons are shared with newer states.
+     * The persons are only counted when a memory budget and a spill store are given.
+     */
+    @Override
+    public synchronized long getEstimatedMemoryUsage() {
+        return estimatedMemoryUsage;
+    }
+
+    @Override
+    public synchronized UndoHistoryStats getStats() {
+        return new UndoHistoryStats(courseBookStateList.size(), spilledStateCount, estimatedMemoryUsage,
+                spilledBytes, reloadCount, lastReloadNanos);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SnapshotHistory)) {
+            return false;
+        }
+
+        SnapshotHistory otherHistory = (SnapshotHistory) other;
+        return courseBookStateList.equals(otherHistory.courseBookStateList)
+                && currentStatePointer == otherHistory.currentStatePointer;
+    }
+
+    @Override
+    public int hashCode() {
+        return courseBookStateList.hashCode();
+    }
+
+    /**
+     * One entry of the history, holding either its state or the position of its persons in the spill store.
+     * Spilled entries are compared by that position.
+     */
+    private static class StoredState {
+        private final ThemeCommand.Theme theme;
+        private CourseBookState state;
+        private long spillPosition;
+        private long spilledBytes;
+        private long retainedBytes;
+        private boolean isSpilling;
+        private long pendingReleaseBytes;
+        private boolean isRemoved;
+
+        StoredState(CourseBookState state) {
+            this.state = state;
+            this.theme = state.getTheme();
+        }
+
+        boolean isSpilled() {
+            return state == null;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof StoredState)) {
+                return false;
+            }
+
+            StoredState otherState = (StoredState) other;
+            return isSpilled()
+                    ? otherState.isSpilled() && spillPosition == otherState.spillPosition
+                            && theme == otherState.theme
+                    : Objects.equals(state, otherState.state);
+        }
+
+        @Override
+        public int hashCode() {
+            return isSpilled() ? Objects.hash(spillPosition, theme) : state.hashCode();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.coursebook.model;
+
+/**
+ * Stores the committed states of a {@code VersionedCourseBook} and moves its data between them.
+ * Callers check {@link #canUndo()} and {@link #canRedo()} before calling {@link #undo()} and {@link #redo()}.
+ */
+interface UndoHistory {
+
+    /**
+     * Records the current data of the course book as the newest state, discarding any undone states.
+     */
+    void commit();
+
+    /**
+     * Restores the course book to the state before the current one.
+     */
+    void undo();
+
+    /**
+     * Restores the course book to the state after the current one.
+     */
+    void redo();
+
+    /**
+     * Discards every recorded state and makes the current data of the course book the only state.
+     */
+    void reset();
+
+    boolean canUndo();
+
+    boolean canRedo();
+
+    /**
+     * Returns the estimated number of bytes retained by the recorded history.
+     */
+    long getEstimatedMemoryUsage();
+
+    /**
+     * Returns the current metrics of the history.
+     */
+    UndoHistoryStats getStats();
+}
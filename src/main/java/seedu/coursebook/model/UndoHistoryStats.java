@@ -0,0 +1,100 @@
+package seedu.coursebook.model;
+
+import java.util.Objects;
+
+import seedu.coursebook.commons.util.ToStringBuilder;
+
+/**
+ * Immutable metrics describing the undo/redo history at one point in time.
+ */
+public class UndoHistoryStats {
+
+    private final int stateCount;
+    private final int spilledStateCount;
+    private final long estimatedMemoryUsage;
+    private final long spilledBytes;
+    private final int reloadCount;
+    private final long lastReloadNanos;
+
+    /**
+     * Creates the metrics of a history.
+     *
+     * @param stateCount number of states in the history, including the current one.
+     * @param spilledStateCount number of those states that are held in the spill store instead of the heap.
+     * @param estimatedMemoryUsage estimated number of heap bytes retained by the history.
+     * @param spilledBytes number of bytes the spilled states take in the spill store.
+     * @param reloadCount number of times a spilled state has been read back.
+     * @param lastReloadNanos time taken by the most recent reload, or 0 if there has been none.
+     */
+    public UndoHistoryStats(int stateCount, int spilledStateCount, long estimatedMemoryUsage, long spilledBytes,
+            int reloadCount, long lastReloadNanos) {
+        this.stateCount = stateCount;
+        this.spilledStateCount = spilledStateCount;
+        this.estimatedMemoryUsage = estimatedMemoryUsage;
+        this.spilledBytes = spilledBytes;
+        this.reloadCount = reloadCount;
+        this.lastReloadNanos = lastReloadNanos;
+    }
+
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    public int getSpilledStateCount() {
+        return spilledStateCount;
+    }
+
+    public long getEstimatedMemoryUsage() {
+        return estimatedMemoryUsage;
+    }
+
+    public long getSpilledBytes() {
+        return spilledBytes;
+    }
+
+    public int getReloadCount() {
+        return reloadCount;
+    }
+
+    public long getLastReloadNanos() {
+        return lastReloadNanos;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UndoHistoryStats)) {
+            return false;
+        }
+
+        UndoHistoryStats otherStats = (UndoHistoryStats) other;
+        return stateCount == otherStats.stateCount
+                && spilledStateCount == otherStats.spilledStateCount
+                && estimatedMemoryUsage == otherStats.estimatedMemoryUsage
+                && spilledBytes == otherStats.spilledBytes
+                && reloadCount == otherStats.reloadCount
+                && lastReloadNanos == otherStats.lastReloadNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stateCount, spilledStateCount, estimatedMemoryUsage, spilledBytes, reloadCount,
+                lastReloadNanos);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("stateCount", stateCount)
+                .add("spilledStateCount", spilledStateCount)
+                .add("estimatedMemoryUsage", estimatedMemoryUsage)
+                .add("spilledBytes", spilledBytes)
+                .add("reloadCount", reloadCount)
+                .add("lastReloadNanos", lastReloadNanos)
+                .toString();
+    }
+}
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.coursebook.commons.core.GuiSettings;
+import seedu.coursebook.model.person.PersonSortOrder;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path courseBookFilePath = Paths.get("data" , "CourseBook.json");
+    private VersionedCourseBook.HistoryMode undoHistoryMode = VersionedCourseBook.HistoryMode.SNAPSHOT;
+    private int undoHistoryDepth = 0;
+    private long undoHistoryMemoryBudget = 0;
+    private PersonSortOrder personSortOrder = PersonSortOrder.NONE;
+    private boolean isDataFileCompact = false;
+    private boolean isDataFileJournalled = false;
+    private boolean isDataFileBinary = false;
+    private int dataFileBackupCount = 2;
+    private boolean isDataFileLoadedInBackground = false;
+    private int dataFileCompressionLevel = 0;
+    private boolean isDataFileSharded = false;
+    private boolean isLiveFindEnabled = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setCourseBookFilePath(newUserPrefs.getCourseBookFilePath());
+        setUndoHistoryMode(newUserPrefs.getUndoHistoryMode());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoHistoryMemoryBudget(newUserPrefs.getUndoHistoryMemoryBudget());
+        setPersonSortOrder(newUserPrefs.getPersonSortOrder());
+        setDataFileCompact(newUserPrefs.isDataFileCompact());
+        setDataFileJournalled(newUserPrefs.isDataFileJournalled());
+        setDataFileBinary(newUserPrefs.isDataFileBinary());
+        setDataFileBackupCount(newUserPrefs.getDataFileBackupCount());
+        setDataFileLoadedInBackground(newUserPrefs.isDataFileLoadedInBackground());
+        setDataFileCompressionLevel(newUserPrefs.getDataFileCompressionLevel());
+        setDataFileSharded(newUserPrefs.isDataFileSharded());
+        setLiveFindEnabled(newUserPrefs.isLiveFindEnabled());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +81,144 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.courseBookFilePath = courseBookFilePath;
     }
 
+    public VersionedCourseBook.HistoryMode getUndoHistoryMode() {
+        return undoHistoryMode;
+    }
+
+    public void setUndoHistoryMode(VersionedCourseBook.HistoryMode undoHistoryMode) {
+        requireNonNull(undoHistoryMode);
+        this.undoHistoryMode = undoHistoryMode;
+    }
+
+    /**
+     * Returns the maximum number of commands that can be undone, where 0 means there is no limit.
+     */
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    /**
+     * Returns the number of bytes the undo history may keep in memory before older states are spilled to disk,
+     * where 0 means there is no limit.
+     */
+    public long getUndoHistoryMemoryBudget() {
+        return undoHistoryMemoryBudget;
+    }
+
+    public void setUndoHistoryMemoryBudget(long undoHistoryMemoryBudget) {
+        this.undoHistoryMemoryBudget = undoHistoryMemoryBudget;
+    }
+
+    /**
+     * Returns the order the person list was last displayed in, which is restored when the app starts.
+     */
+    public PersonSortOrder getPersonSortOrder() {
+        return personSortOrder;
+    }
+
+    public void setPersonSortOrder(PersonSortOrder personSortOrder) {
+        requireNonNull(personSortOrder);
+        this.personSortOrder = personSortOrder;
+    }
+
+    /**
+     * Returns true if the data file is written without indentation, which makes it smaller and faster to save.
+     */
+    public boolean isDataFileCompact() {
+        return isDataFileCompact;
+    }
+
+    public void setDataFileCompact(boolean isDataFileCompact) {
+        this.isDataFileCompact = isDataFileCompact;
+    }
+
+    /**
+     * Returns true if each save appends its edits to a journal next to the data file instead of rewriting the file.
+     */
+    public boolean isDataFileJournalled() {
+        return isDataFileJournalled;
+    }
+
+    public void setDataFileJournalled(boolean isDataFileJournalled) {
+        this.isDataFileJournalled = isDataFileJournalled;
+    }
+
+    /**
+     * Returns true if the data file is written in the binary format, which is smaller and faster to load than JSON.
+     * Data files in either format are read, and converted to this format on the next save.
+     */
+    public boolean isDataFileBinary() {
+        return isDataFileBinary;
+    }
+
+    public void setDataFileBinary(boolean isDataFileBinary) {
+        this.isDataFileBinary = isDataFileBinary;
+    }
+
+    /**
+     * Returns the number of previous generations of the data file kept as backups, which are read on startup if the
+     * data file is missing or invalid.
+     */
+    public int getDataFileBackupCount() {
+        return dataFileBackupCount;
+    }
+
+    public void setDataFileBackupCount(int dataFileBackupCount) {
+        this.dataFileBackupCount = dataFileBackupCount;
+    }
+
+    /**
+     * Returns true if the window is shown before the data file is loaded, which is then read in the background.
+     * Commands are refused until it has been loaded.
+     */
+    public boolean isDataFileLoadedInBackground() {
+        return isDataFileLoadedInBackground;
+    }
+
+    public void setDataFileLoadedInBackground(boolean isDataFileLoadedInBackground) {
+        this.isDataFileLoadedInBackground = isDataFileLoadedInBackground;
+    }
+
+    /**
+     * Returns the gzip compression level of the data file from 1 to 9, or 0 if it is not compressed.
+     * Data files are read whether they are compressed or not, and compressed or decompressed on the next save.
+     */
+    public int getDataFileCompressionLevel() {
+        return dataFileCompressionLevel;
+    }
+
+    public void setDataFileCompressionLevel(int dataFileCompressionLevel) {
+        this.dataFileCompressionLevel = dataFileCompressionLevel;
+    }
+
+    /**
+     * Returns true if the course book is kept in a directory with one file for each course instead of in the data file,
+     * so that a save only rewrites the files of the courses it changed. The binary, compressed and journalled formats
+     * do not apply to it.
+     */
+    public boolean isDataFileSharded() {
+        return isDataFileSharded;
+    }
+
+    public void setDataFileSharded(boolean isDataFileSharded) {
+        this.isDataFileSharded = isDataFileSharded;
+    }
+
+    /**
+     * Returns true if the person list is narrowed down as a {@code find} command is typed, before it is entered.
+     */
+    public boolean isLiveFindEnabled() {
+        return isLiveFindEnabled;
+    }
+
+    public void setLiveFindEnabled(boolean isLiveFindEnabled) {
+        this.isLiveFindEnabled = isLiveFindEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,19 +232,43 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && courseBookFilePath.equals(otherUserPrefs.courseBookFilePath);
+                && courseBookFilePath.equals(otherUserPrefs.courseBookFilePath)
+                && undoHistoryMode == otherUserPrefs.undoHistoryMode
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth
+                && undoHistoryMemoryBudget == otherUserPrefs.undoHistoryMemoryBudget
+                && personSortOrder == otherUserPrefs.personSortOrder
+                && isDataFileCompact == otherUserPrefs.isDataFileCompact
+                && isDataFileJournalled == otherUserPrefs.isDataFileJournalled
+                && isDataFileBinary == otherUserPrefs.isDataFileBinary
+                && dataFileBackupCount == otherUserPrefs.dataFileBackupCount
+                && isDataFileLoadedInBackground == otherUserPrefs.isDataFileLoadedInBackground
+                && dataFileCompressionLevel == otherUserPrefs.dataFileCompressionLevel
+                && isDataFileSharded == otherUserPrefs.isDataFileSharded
+                && isLiveFindEnabled == otherUserPrefs.isLiveFindEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, courseBookFilePath);
+        return Objects.hash(guiSettings, courseBookFilePath, undoHistoryMode, undoHistoryDepth,
+                undoHistoryMemoryBudget, personSortOrder, isDataFileCompact,
+                isDataFileJournalled, isDataFileBinary, dataFileBackupCount, isDataFileLoadedInBackground,
+                dataFileCompressionLevel, isDataFileSharded, isLiveFindEnabled);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
-        sb.append("\nLocal data file location : " + courseBookFilePath);
+        sb.append("\nLocal data file location : " + courseBookFilePath + (isDataFileSharded ? " (sharded)" : "")
+                + (isDataFileBinary ? " (binary)" : "")
+                + (isDataFileCompact ? " (compact)" : "")
+                + (dataFileCompressionLevel > 0 ? " (gzip level " + dataFileCompressionLevel + ")" : "")
+                + (isDataFileJournalled ? " (journalled)" : "") + ", " + dataFileBackupCount + " backups"
+                + (isDataFileLoadedInBackground ? ", loaded in background" : ""));
+        sb.append("\nUndo history : " + undoHistoryMode + " (depth " + undoHistoryDepth
+                + ", memory budget " + undoHistoryMemoryBudget + " bytes)");
+        sb.append("\nPerson sort order : " + personSortOrder);
+        sb.append("\nLive find : " + (isLiveFindEnabled ? "enabled" : "disabled"));
         return sb.toString();
     }
 
@@ -1,77 +1,144 @@
 package seedu.coursebook.model;
 
-import java.util.ArrayList;
-import java.util.List;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
 
 /**
- *  {@code AddressBook} that keeps track of its own history.
+ *  {@code CourseBook} that keeps track of its own history.
+ *  The history is kept either as structurally shared snapshots of every committed state, or as a journal of the
+ *  edits made by every commit, depending on the {@code HistoryMode} it is created with.
  */
 public class VersionedCourseBook extends CourseBook {
 
-    private final List<ReadOnlyCourseBook> courseBookStateList;
-    private int currentStatePointer;
+    /**
+     * How the undo/redo history is recorded.
+     */
+    public enum HistoryMode {
+        /** Keep a snapshot of every committed state. */
+        SNAPSHOT,
+        /** Keep only the edits made by every commit, and replay them on undo and redo. */
+        JOURNAL
+    }
+
+    private final UndoHistory history;
 
     /**
      * Initialize coursebook to be empty
      * @param initialState starts as a read only course book
      */
     public VersionedCourseBook(ReadOnlyCourseBook initialState) {
+        this(initialState, HistoryMode.SNAPSHOT, 0);
+    }
+
+    /**
+     * Creates a {@code VersionedCourseBook} starting at {@code initialState} that keeps its history in memory.
+     *
+     * @param historyMode how the history is recorded.
+     * @param historyDepth maximum number of commits that can be undone, or 0 for no limit.
+     */
+    public VersionedCourseBook(ReadOnlyCourseBook initialState, HistoryMode historyMode, int historyDepth) {
+        this(initialState, historyMode, historyDepth, 0, null);
+    }
+
+    /**
+     * Creates a {@code VersionedCourseBook} starting at {@code initialState}.
+     *
+     * @param historyMode how the history is recorded.
+     * @param historyDepth maximum number of commits that can be undone, or 0 for no limit.
+     * @param memoryBudget estimated number of bytes the history may keep in memory before old states are spilled to
+     *     {@code spillStore}, or 0 for no limit. Only used in {@code SNAPSHOT} mode.
+     * @param spillStore where old states are spilled, or null to keep the whole history in memory.
+     */
+    public VersionedCourseBook(ReadOnlyCourseBook initialState, HistoryMode historyMode, int historyDepth,
+            long memoryBudget, HistorySpillStore spillStore) {
         super(initialState);
+        requireNonNull(historyMode);
 
-        courseBookStateList = new ArrayList<>();
-        courseBookStateList.add(new CourseBook(initialState));
-        currentStatePointer = 0;
+        int maxDepth = Math.max(historyDepth, 0);
+        history = historyMode == HistoryMode.JOURNAL
+                ? new JournalHistory(this, maxDepth)
+                : new SnapshotHistory(this, maxDepth, Math.max(memoryBudget, 0), spillStore);
     }
 
     /**
-     * Saves a copy of the current {@code CourseBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Creates a {@code VersionedCourseBook} starting at {@code initialState} in {@code SNAPSHOT} mode, which spills old
+     * states to {@code spillStore} by running the writes on {@code spillExecutor}.
      */
-    public void commit() {
-        removeStatesAfterCurrentPointer();
-        courseBookStateList.add(new CourseBook(this));
-        currentStatePointer++;
-        indicateModified();
+    VersionedCourseBook(ReadOnlyCourseBook initialState, int historyDepth, long memoryBudget,
+            HistorySpillStore spillStore, Executor spillExecutor) {
+        super(initialState);
+        history = new SnapshotHistory(this, Math.max(historyDepth, 0), Math.max(memoryBudget, 0), spillStore,
+                spillExecutor);
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        courseBookStateList.subList(currentStatePointer + 1, courseBookStateList.size()).clear();
+    /**
+     * Saves the current {@code CourseBook} state to the history.
+     * Undone states are removed from the history.
+     */
+    public void commit() {
+        history.commit();
+        indicateModified();
     }
 
     /**
      * Restores the address book to its previous state.
+     *
+     * @throws HistoryUnavailableException if the previous state was spilled and could not be read back.
      */
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(courseBookStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
      * Restores the address book to its previously undone state.
+     *
+     * @throws HistoryUnavailableException if the undone state was spilled and could not be read back.
      */
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(courseBookStateList.get(currentStatePointer));
+        history.redo();
+    }
+
+    /**
+     * Replaces the data with {@code newData} and makes it the initial state, discarding the whole history.
+     */
+    public void resetDataAndHistory(ReadOnlyCourseBook newData) {
+        resetData(newData);
+        history.reset();
     }
 
     /**
      * Returns true if (@code undo()} has address book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < courseBookStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by the undo/redo history.
+     */
+    public long getHistoryMemoryUsage() {
+        return history.getEstimatedMemoryUsage();
+    }
+
+    /**
+     * Returns the current metrics of the undo/redo history.
+     */
+    public UndoHistoryStats getHistoryStats() {
+        return history.getStats();
     }
 
     @Override
@@ -89,8 +156,7 @@ public class VersionedCourseBook extends CourseBook {
 
         //state check
         return super.equals(otherVersionedCourseBook)
-                && courseBookStateList.equals(otherVersionedCourseBook.courseBookStateList)
-                && currentStatePointer == otherVersionedCourseBook.currentStatePointer;
+                && history.equals(otherVersionedCourseBook.history);
     }
 
     /**
@@ -110,4 +176,16 @@ public class VersionedCourseBook extends CourseBook {
             super("Current state pointer at end of addressBookState list, unable to redo.");
         }
     }
+
+    /**
+     * Thrown when a spilled state cannot be read back during {@code undo()} or {@code redo()}.
+     * The unreadable part of the history is discarded before this is thrown.
+     */
+    public static class HistoryUnavailableException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        HistoryUnavailableException(Throwable cause) {
+            super("Undo history could not be read back from disk.", cause);
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package seedu.coursebook.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.coursebook.commons.util.AppUtil.checkArgument;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.coursebook.commons.util.EditDistance;
+import seedu.coursebook.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s name is within a Damerau-Levenshtein distance of any of the keywords,
+ * ignoring case, so that misspelt names such as "jonh" still find "John".
+ * Persons are ranked by the distance of their closest name word to any keyword.
+ */
+public class FuzzyNamePredicate implements Predicate<Person> {
+
+    public static final int DEFAULT_MAX_DISTANCE = 2;
+    public static final int MAX_MAX_DISTANCE = 3;
+    public static final String MESSAGE_CONSTRAINTS =
+            "The maximum distance of a fuzzy search should be from 0 to " + MAX_MAX_DISTANCE + ".";
+
+    private final List<String> keywords;
+    private final String[] lowerKeywords;
+    private final int maxDistance;
+
+    /**
+     * Creates a predicate matching the names with a word within {@code maxDistance} of any of {@code keywords}.
+     *
+     * @param maxDistance must be from 0 to {@code MAX_MAX_DISTANCE}.
+     */
+    public FuzzyNamePredicate(List<String> keywords, int maxDistance) {
+        requireNonNull(keywords);
+        checkArgument(maxDistance >= 0 && maxDistance <= MAX_MAX_DISTANCE, MESSAGE_CONSTRAINTS);
+        this.keywords = keywords;
+        this.lowerKeywords = keywords.stream().map(String::toLowerCase).toArray(String[]::new);
+        this.maxDistance = maxDistance;
+    }
+
+    public int getMaxDistance() {
+        return maxDistance;
+    }
+
+    /**
+     * Returns the keywords in lowercase.
+     */
+    List<String> getLowerKeywords() {
+        return List.of(lowerKeywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return distanceTo(person) <= maxDistance;
+    }
+
+    /**
+     * Returns the distance of the closest word of the name of {@code person} to any keyword, or
+     * {@code getMaxDistance() + 1} if none is within the maximum distance.
+     */
+    public int distanceTo(Person person) {
+        requireNonNull(person);
+        int best = maxDistance + 1;
+        for (String word : person.getSearchKeys().nameWords) {
+            for (String keyword : lowerKeywords) {
+                // Only a distance better than the best so far matters, so bound the search by it
+                best = Math.min(best, EditDistance.damerauLevenshtein(keyword, word, best - 1));
+                if (best == 0) {
+                    return 0;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns a comparator that orders persons from the closest to the furthest match.
+     */
+    public Comparator<Person> getRanking() {
+        return Comparator.comparingInt(this::distanceTo);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyNamePredicate)) {
+            return false;
+        }
+
+        FuzzyNamePredicate otherPredicate = (FuzzyNamePredicate) other;
+        return keywords.equals(otherPredicate.keywords) && maxDistance == otherPredicate.maxDistance;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, maxDistance);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .add("maxDistance", maxDistance)
+                .toString();
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.coursebook.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Records two persons in a list that share an identity field, which {@code UniquePersonList} does not allow.
+ * Positions are zero-based indexes into the list that was checked.
+ */
+public class IdentityConflict {
+
+    private final int firstIndex;
+    private final int secondIndex;
+    private final String field;
+    private final String value;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public IdentityConflict(int firstIndex, int secondIndex, String field, String value) {
+        requireNonNull(field);
+        requireNonNull(value);
+        this.firstIndex = firstIndex;
+        this.secondIndex = secondIndex;
+        this.field = field;
+        this.value = value;
+    }
+
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    public int getSecondIndex() {
+        return secondIndex;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IdentityConflict)) {
+            return false;
+        }
+
+        IdentityConflict otherConflict = (IdentityConflict) other;
+        return firstIndex == otherConflict.firstIndex
+                && secondIndex == otherConflict.secondIndex
+                && field.equals(otherConflict.field)
+                && value.equals(otherConflict.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstIndex, secondIndex, field, value);
+    }
+
+    /**
+     * Format state as text for viewing, using one-based positions.
+     */
+    @Override
+    public String toString() {
+        return String.format("Persons %d and %d have the same %s: %s", firstIndex + 1, secondIndex + 1, field, value);
+    }
+}
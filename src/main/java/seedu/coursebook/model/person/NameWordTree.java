@@ -0,0 +1,104 @@
+package seedu.coursebook.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+import seedu.coursebook.commons.util.EditDistance;
+
+/**
+ * A BK-tree of distinct words, which finds the words within a Damerau-Levenshtein distance of a query without comparing
+ * the query to every word.
+ * <p>
+ * Each child of a node is at a different distance from it. As the distance satisfies the triangle inequality, a word
+ * within {@code maxDistance} of the query can only be under the children at a distance of {@code d - maxDistance} to
+ * {@code d + maxDistance} from a node at distance {@code d} from the query, so every other child is skipped.
+ */
+class NameWordTree {
+
+    private Node root;
+    private int size = 0;
+
+    /**
+     * Adds {@code word}, which must not already be in the tree.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        size++;
+        if (root == null) {
+            root = new Node(word);
+            return;
+        }
+        Node node = root;
+        while (true) {
+            // Words are never further apart than the longer of them is long
+            int bound = Math.max(word.length(), node.word.length());
+            int distance = EditDistance.damerauLevenshtein(word, node.word, bound);
+            assert distance > 0 : "Words are only added once";
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(word));
+                return;
+            }
+            node = child;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Passes each word within {@code maxDistance} of {@code query} to {@code action}.
+     */
+    void forEachWithin(String query, int maxDistance, Consumer<String> action) {
+        requireNonNull(query);
+        if (root == null) {
+            return;
+        }
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            // Past this bound, neither the node nor any of its children can hold a match
+            int bound = maxDistance + Math.max(0, node.children.length - 1);
+            int distance = EditDistance.damerauLevenshtein(query, node.word, bound);
+            if (distance <= maxDistance) {
+                action.accept(node.word);
+            }
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int childDistance = from; childDistance <= to; childDistance++) {
+                if (node.children[childDistance] != null) {
+                    toVisit.push(node.children[childDistance]);
+                }
+            }
+        }
+    }
+
+    /**
+     * A word, and its children indexed by their distance from it.
+     */
+    private static class Node {
+        private final String word;
+        private Node[] children = new Node[0];
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
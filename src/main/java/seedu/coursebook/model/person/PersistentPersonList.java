@@ -0,0 +1,353 @@
+package seedu.coursebook.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable, indexed sequence of persons that shares structure between versions.
+ * The list is stored as a height-balanced binary tree ordered by position. Every update copies only the nodes on the
+ * path from the root to the changed position, so an update costs O(log n) time and memory while all earlier versions
+ * stay valid and unchanged.
+ */
+public final class PersistentPersonList implements Iterable<Person> {
+
+    private static final PersistentPersonList EMPTY = new PersistentPersonList(null);
+
+    private final Node root;
+
+    private PersistentPersonList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    public static PersistentPersonList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list holding {@code persons} in order. Builds a balanced tree in O(n).
+     */
+    public static PersistentPersonList of(List<Person> persons) {
+        requireNonNull(persons);
+        return persons.isEmpty() ? EMPTY : new PersistentPersonList(build(persons, 0, persons.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the person at {@code index}.
+     */
+    public Person get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a new list with the person at {@code index} replaced by {@code person}.
+     */
+    public PersistentPersonList set(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index, size());
+        return new PersistentPersonList(setAt(root, index, person));
+    }
+
+    /**
+     * Returns a new list with {@code person} inserted at {@code index}, shifting later persons to the right.
+     */
+    public PersistentPersonList insert(int index, Person person) {
+        requireNonNull(person);
+        checkIndex(index, size() + 1);
+        return new PersistentPersonList(insertAt(root, index, person));
+    }
+
+    /**
+     * Returns a new list with {@code person} added at the end.
+     */
+    public PersistentPersonList append(Person person) {
+        return insert(size(), person);
+    }
+
+    /**
+     * Returns a new list with the person at {@code index} removed, shifting later persons to the left.
+     */
+    public PersistentPersonList remove(int index) {
+        checkIndex(index, size());
+        return new PersistentPersonList(removeAt(root, index));
+    }
+
+    /**
+     * Returns the persons in this list as a new mutable {@code List}.
+     */
+    public List<Person> toList() {
+        List<Person> persons = new ArrayList<>(size());
+        forEach(persons::add);
+        return persons;
+    }
+
+    /**
+     * Returns the number of persons in this list that are not in {@code other}, in time proportional to the nodes the
+     * two lists do not share. Both lists are walked from their roots one height at a time, and a node found in both is
+     * not walked further, as every node under it is shared as well. Lists derived from one another by a few updates
+     * share all but O(log n) nodes per update.
+     */
+    public int countPersonsNotIn(PersistentPersonList other) {
+        requireNonNull(other);
+        int maxHeight = Math.max(heightOf(root), heightOf(other.root));
+        List<List<Node>> ourLevels = new ArrayList<>();
+        List<List<Node>> theirLevels = new ArrayList<>();
+        for (int height = 0; height <= maxHeight; height++) {
+            ourLevels.add(new ArrayList<>());
+            theirLevels.add(new ArrayList<>());
+        }
+        addToLevel(ourLevels, root);
+        addToLevel(theirLevels, other.root);
+
+        // Persons move to new nodes when the tree is rebalanced, so only persons missing from their nodes are counted
+        Set<Person> ourPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Person> theirPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int height = maxHeight; height > 0; height--) {
+            Set<Node> theirNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+            theirNodes.addAll(theirLevels.get(height));
+            for (Node node : ourLevels.get(height)) {
+                if (!theirNodes.remove(node)) {
+                    ourPersons.add(node.value);
+                    addToLevel(ourLevels, node.left);
+                    addToLevel(ourLevels, node.right);
+                }
+            }
+            for (Node node : theirNodes) {
+                theirPersons.add(node.value);
+                addToLevel(theirLevels, node.left);
+                addToLevel(theirLevels, node.right);
+            }
+        }
+        ourPersons.removeAll(theirPersons);
+        return ourPersons.size();
+    }
+
+    private static void addToLevel(List<List<Node>> levels, Node node) {
+        if (node != null) {
+            levels.get(node.height).add(node);
+        }
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return new InOrderIterator(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentPersonList)) {
+            return false;
+        }
+
+        PersistentPersonList otherList = (PersistentPersonList) other;
+        if (root == otherList.root) {
+            return true;
+        }
+        if (size() != otherList.size()) {
+            return false;
+        }
+
+        Iterator<Person> otherIterator = otherList.iterator();
+        for (Person person : this) {
+            if (!person.equals(otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (Person person : this) {
+            hashCode = 31 * hashCode + person.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static Node build(List<Person> persons, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(persons.get(mid), build(persons, from, mid), build(persons, mid + 1, to));
+    }
+
+    private static Node setAt(Node node, int index, Person person) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node(node.value, setAt(node.left, index, person), node.right);
+        } else if (index > leftSize) {
+            return new Node(node.value, node.left, setAt(node.right, index - leftSize - 1, person));
+        }
+        return new Node(person, node.left, node.right);
+    }
+
+    private static Node insertAt(Node node, int index, Person person) {
+        if (node == null) {
+            return new Node(person, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insertAt(node.left, index, person), node.right);
+        }
+        return balance(node.value, node.left, insertAt(node.right, index - leftSize - 1, person));
+    }
+
+    private static Node removeAt(Node node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, removeAt(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, removeAt(node.right, index - leftSize - 1));
+        }
+
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Person successor = first(node.right);
+        return balance(successor, node.left, removeAt(node.right, 0));
+    }
+
+    private static Person first(Node node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns a node holding {@code value} over {@code left} and {@code right}, rotating if the subtrees' heights
+     * differ by more than one.
+     */
+    private static Node balance(Person value, Node left, Node right) {
+        int difference = heightOf(left) - heightOf(right);
+        if (difference > 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node(left.value, left.left, new Node(value, left.right, right));
+            }
+            return new Node(left.right.value,
+                    new Node(left.value, left.left, left.right.left),
+                    new Node(value, left.right.right, right));
+        } else if (difference < -1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node(right.value, new Node(value, left, right.left), right.right);
+            }
+            return new Node(right.left.value,
+                    new Node(value, left, right.left.left),
+                    new Node(right.value, right.left.right, right.right));
+        }
+        return new Node(value, left, right);
+    }
+
+    /**
+     * An immutable tree node. Nodes are never modified after construction, so they can be shared between lists.
+     */
+    private static final class Node {
+        private final Person value;
+        private final Node left;
+        private final Node right;
+        private final int size;
+        private final int height;
+
+        Node(Person value, Node left, Node right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Walks the tree in positional order.
+     */
+    private static final class InOrderIterator implements Iterator<Person> {
+        private final Deque<Node> stack = new ArrayDeque<>();
+
+        InOrderIterator(Node root) {
+            pushLeftSpine(root);
+        }
+
+        private void pushLeftSpine(Node node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public Person next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = stack.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+    }
+}
@@ -29,6 +29,9 @@ public class Person {
     private final Birthday birthday;
     private final boolean isFavourite;
 
+    // Computed on the first search; a race only computes the same keys twice, as all their fields are final
+    private PersonSearchKeys searchKeys;
+
     /**
      * Every field must be present and not null.
      */
@@ -85,6 +88,18 @@ public class Person {
         return Collections.unmodifiableSet(courses);
     }
 
+    /**
+     * Returns the lowercase text of the fields that {@code find} searches, computing it on the first call.
+     */
+    PersonSearchKeys getSearchKeys() {
+        PersonSearchKeys keys = searchKeys;
+        if (keys == null) {
+            keys = new PersonSearchKeys(this);
+            searchKeys = keys;
+        }
+        return keys;
+    }
+
     /**
      * Returns true if both persons have the same name/email/phone.
      * This defines a weaker notion of equality between two persons.
@@ -1,14 +1,13 @@
 package seedu.coursebook.model.person;
 
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.coursebook.commons.util.ToStringBuilder;
-import seedu.coursebook.model.tag.Tag;
 
 /**
  * Tests that a {@code Person} matches ANY of the provided field-specific keyword lists.
@@ -27,6 +26,13 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> addressKeywords;
     private final List<String> tagKeywords;
 
+    // The non-blank keywords in lowercase, so that testing a person allocates nothing
+    private final String[] lowerNameKeywords;
+    private final String[] lowerPhoneKeywords;
+    private final String[] lowerEmailKeywords;
+    private final String[] lowerAddressKeywords;
+    private final String[] lowerTagKeywords;
+
     /**
      * Creates a predicate with keyword lists for each supported field.
      * Any of the lists may be empty; the person matches if ANY provided field matches.
@@ -41,48 +47,88 @@ public class PersonContainsKeywordsPredicate implements Predicate<Person> {
         this.emailKeywords = emailKeywords;
         this.addressKeywords = addressKeywords;
         this.tagKeywords = tagKeywords;
+        this.lowerNameKeywords = toLowerCaseKeywords(nameKeywords);
+        this.lowerPhoneKeywords = toLowerCaseKeywords(phoneKeywords);
+        this.lowerEmailKeywords = toLowerCaseKeywords(emailKeywords);
+        this.lowerAddressKeywords = toLowerCaseKeywords(addressKeywords);
+        this.lowerTagKeywords = toLowerCaseKeywords(tagKeywords);
     }
 
     @Override
     public boolean test(Person person) {
         Objects.requireNonNull(person);
 
-        boolean nameMatches = containsAnyIgnoreCase(person.getName().fullName, nameKeywords);
-        boolean addressMatches = containsAnyIgnoreCase(person.getAddress().value, addressKeywords);
-        boolean phoneMatches = containsAnyIgnoreCase(person.getPhone().value, phoneKeywords);
-        boolean emailMatches = containsAnyIgnoreCase(person.getEmail().value, emailKeywords);
-        boolean tagMatches = containsAnyTagIgnoreCase(person.getTags(), tagKeywords);
-
-        return nameMatches || addressMatches || phoneMatches || emailMatches || tagMatches;
+        PersonSearchKeys keys = person.getSearchKeys();
+        return containsAny(keys.name, lowerNameKeywords)
+                || containsAny(keys.address, lowerAddressKeywords)
+                || containsAny(keys.phone, lowerPhoneKeywords)
+                || containsAny(keys.email, lowerEmailKeywords)
+                || containsAnyTag(keys.tags, lowerTagKeywords);
     }
 
-    private static boolean containsAnyIgnoreCase(String text, List<String> keywords) {
-        return Optional.ofNullable(keywords)
-                .map(list -> list.stream()
-                        .filter(kw -> kw != null && !kw.isBlank())
-                        .anyMatch(keyword -> containsIgnoreCase(text, keyword)))
-                .orElse(false);
+    /**
+     * Returns true if every person matching this predicate also matches {@code other}, because each field has as many
+     * keywords as in {@code other}, and each keyword contains the keyword in the same place in {@code other}.
+     * This holds when a keyword is typed further, but not when a keyword is added, as any keyword may match.
+     */
+    public boolean refines(PersonContainsKeywordsPredicate other) {
+        Objects.requireNonNull(other);
+        return refines(lowerNameKeywords, other.lowerNameKeywords)
+                && refines(lowerPhoneKeywords, other.lowerPhoneKeywords)
+                && refines(lowerEmailKeywords, other.lowerEmailKeywords)
+                && refines(lowerAddressKeywords, other.lowerAddressKeywords)
+                && refines(lowerTagKeywords, other.lowerTagKeywords);
     }
 
-    private static boolean containsIgnoreCase(String text, String fragment) {
-        if (text == null || fragment == null) {
+    private static boolean refines(String[] lowerKeywords, String[] otherLowerKeywords) {
+        if (lowerKeywords.length != otherLowerKeywords.length) {
             return false;
         }
-        String lowerText = text.toLowerCase();
-        String lowerFragment = fragment.toLowerCase();
-        return lowerText.contains(lowerFragment);
+        for (int i = 0; i < lowerKeywords.length; i++) {
+            if (!lowerKeywords[i].contains(otherLowerKeywords[i])) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private static boolean containsAnyTagIgnoreCase(Set<Tag> tags, List<String> keywords) {
-        if (tags == null || tags.isEmpty()) {
-            return false;
+    /**
+     * Returns the non-blank keywords of every field in lowercase.
+     */
+    List<String> getLowerKeywords() {
+        return Stream.of(lowerNameKeywords, lowerPhoneKeywords, lowerEmailKeywords, lowerAddressKeywords,
+                lowerTagKeywords).flatMap(Arrays::stream).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the non-blank keywords of {@code keywords} in lowercase, or an empty array if {@code keywords} is null.
+     */
+    private static String[] toLowerCaseKeywords(List<String> keywords) {
+        if (keywords == null) {
+            return new String[0];
+        }
+        return keywords.stream()
+                .filter(keyword -> keyword != null && !keyword.isBlank())
+                .map(String::toLowerCase)
+                .toArray(String[]::new);
+    }
+
+    private static boolean containsAny(String lowerText, String[] lowerKeywords) {
+        for (String keyword : lowerKeywords) {
+            if (lowerText.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsAnyTag(String[] lowerTags, String[] lowerKeywords) {
+        for (String tag : lowerTags) {
+            if (containsAny(tag, lowerKeywords)) {
+                return true;
+            }
         }
-        return Optional.ofNullable(keywords)
-                .map(Collection::stream)
-                .orElseGet(java.util.stream.Stream::empty)
-                .filter(kw -> kw != null && !kw.isBlank())
-                .anyMatch(keyword -> tags.stream()
-                        .anyMatch(tag -> containsIgnoreCase(tag.tagName, keyword)));
+        return false;
     }
 
     @Override
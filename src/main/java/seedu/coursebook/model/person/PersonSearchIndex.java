@@ -0,0 +1,329 @@
+package seedu.coursebook.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * A trigram index over the searchable fields of the persons of a person list, which narrows a
+ * {@code PersonContainsKeywordsPredicate} down to the few persons that can match it, so that {@code find} does not
+ * have to test every person for every keyword.
+ * <p>
+ * Each person is given an id, and each trigram (three consecutive characters of a lowercase field) maps to the sorted
+ * ids of the persons holding it. A keyword can only be contained in a field that holds all of its trigrams, so the
+ * candidates for a keyword are the intersection of the posting lists of its trigrams. Keywords shorter than a trigram
+ * cannot be narrowed down, so a predicate with any such keyword is left to test every person.
+ * <p>
+ * The index is built on the first search, and then kept up to date from the changes of the person list. Removed
+ * persons are left in the posting lists, and their name words in the BK-tree, until the index is rebuilt, which
+ * happens on the next search once more persons have been removed than are left, or after a change that replaces most
+ * of the list.
+ * <p>
+ * A {@code FuzzyNamePredicate} is narrowed down by a separate BK-tree of the distinct lowercase words of the names,
+ * which is built on the first fuzzy search, and finds the words within the edit distance of each keyword. The persons
+ * with those words are the candidates.
+ */
+public class PersonSearchIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final List<? extends Person> persons;
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<Person, Integer> ids = new IdentityHashMap<>();
+    private Person[] personsById = new Person[0];
+    private int nextId = 0;
+    private int removedCount = 0;
+    private boolean isBuilt = false;
+    private NarrowedPredicate activePredicate;
+    private NameWordTree nameWordTree;
+    private final Map<String, Set<Person>> personsByNameWord = new HashMap<>();
+
+    /**
+     * Creates an index over {@code persons}, which is built on the first search.
+     */
+    public PersonSearchIndex(List<? extends Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only tests the persons that the index cannot rule out,
+     * or {@code predicate} itself if it has a keyword shorter than a trigram.
+     * Persons added to the list after this call are always tested, so the returned predicate stays equivalent to
+     * {@code predicate} as the list changes.
+     */
+    public Predicate<Person> narrow(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        List<String> keywords = predicate.getLowerKeywords();
+        if (keywords.stream().anyMatch(keyword -> keyword.length() < GRAM_LENGTH)) {
+            return predicate;
+        }
+
+        if (!isBuilt) {
+            build();
+        }
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            int[] matchingIds = findIdsHoldingTrigramsOf(keyword);
+            for (int id : matchingIds) {
+                Person person = personsById[id];
+                if (person != null) {
+                    candidates.add(person);
+                }
+            }
+        }
+        activePredicate = new NarrowedPredicate(candidates, predicate);
+        return activePredicate;
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that only tests the persons with a name word that the
+     * BK-tree of name words found within its maximum distance of a keyword.
+     * Persons added to the list after this call are always tested, so the returned predicate stays equivalent to
+     * {@code predicate} as the list changes.
+     */
+    public Predicate<Person> narrow(FuzzyNamePredicate predicate) {
+        requireNonNull(predicate);
+        if (nameWordTree == null) {
+            buildNameWordTree();
+        }
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : predicate.getLowerKeywords()) {
+            nameWordTree.forEachWithin(keyword, predicate.getMaxDistance(),
+                    word -> candidates.addAll(personsByNameWord.get(word)));
+        }
+        activePredicate = new NarrowedPredicate(candidates, predicate);
+        return activePredicate;
+    }
+
+    /**
+     * Applies the persons added and removed by {@code change} to the index, if it has been built.
+     * Permutations and in-place updates do not change any person, so they are ignored.
+     */
+    public void handleChange(ListChangeListener.Change<? extends Person> change) {
+        if (!isBuilt && nameWordTree == null) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            if (change.getAddedSize() > persons.size() / 2 && change.getAddedSize() > 1) {
+                // Rebuilding on the next search is cheaper than indexing most of the list here
+                clear();
+                return;
+            }
+            for (Person removed : change.getRemoved()) {
+                removedCount++;
+                if (isBuilt) {
+                    unindex(removed);
+                }
+                if (nameWordTree != null) {
+                    unindexNameWords(removed);
+                }
+            }
+            for (Person added : change.getAddedSubList()) {
+                if (isBuilt) {
+                    index(added);
+                }
+                if (nameWordTree != null) {
+                    indexNameWords(added);
+                }
+                if (activePredicate != null) {
+                    activePredicate.addCandidate(added);
+                }
+            }
+        }
+        if (removedCount > persons.size()) {
+            clear();
+        }
+    }
+
+    private void build() {
+        int size = persons.size();
+        personsById = new Person[Math.max(size, 16)];
+        persons.forEach(this::index);
+        isBuilt = true;
+    }
+
+    private void buildNameWordTree() {
+        nameWordTree = new NameWordTree();
+        persons.forEach(this::indexNameWords);
+    }
+
+    /**
+     * Drops the index, to be rebuilt on the next search. The predicate returned by the last search stops narrowing,
+     * as the persons added from now on are not tracked.
+     */
+    private void clear() {
+        postings.clear();
+        ids.clear();
+        personsById = new Person[0];
+        nextId = 0;
+        removedCount = 0;
+        isBuilt = false;
+        nameWordTree = null;
+        personsByNameWord.clear();
+        if (activePredicate != null) {
+            activePredicate.widen();
+            activePredicate = null;
+        }
+    }
+
+    private void index(Person person) {
+        int id = nextId++;
+        if (id == personsById.length) {
+            personsById = Arrays.copyOf(personsById, Math.max(16, id * 2));
+        }
+        personsById[id] = person;
+        ids.put(person, id);
+
+        PersonSearchKeys keys = person.getSearchKeys();
+        indexTrigrams(keys.name, id);
+        indexTrigrams(keys.phone, id);
+        indexTrigrams(keys.email, id);
+        indexTrigrams(keys.address, id);
+        for (String tag : keys.tags) {
+            indexTrigrams(tag, id);
+        }
+    }
+
+    private void indexTrigrams(String text, int id) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            postings.computeIfAbsent(trigramAt(text, i), unused -> new PostingList()).add(id);
+        }
+    }
+
+    private void unindex(Person person) {
+        Integer id = ids.remove(person);
+        assert id != null : "Only indexed persons can be removed";
+        personsById[id] = null;
+    }
+
+    /**
+     * Adds {@code person} to the persons of each of its name words. A word is added to the BK-tree the first time it
+     * is seen, and stays there after every person with it is removed, until the index is rebuilt.
+     */
+    private void indexNameWords(Person person) {
+        for (String word : person.getSearchKeys().nameWords) {
+            personsByNameWord.computeIfAbsent(word, unused -> {
+                nameWordTree.add(word);
+                return Collections.newSetFromMap(new IdentityHashMap<>());
+            }).add(person);
+        }
+    }
+
+    private void unindexNameWords(Person person) {
+        for (String word : person.getSearchKeys().nameWords) {
+            personsByNameWord.get(word).remove(person);
+        }
+    }
+
+    /**
+     * Returns the sorted ids of the persons that hold every trigram of {@code keyword}, in one of their fields.
+     */
+    private int[] findIdsHoldingTrigramsOf(String keyword) {
+        PostingList[] lists = new PostingList[keyword.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.get(trigramAt(keyword, i));
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        // Start from the shortest list, so that each intersection only searches for the fewest ids
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        int[] result = Arrays.copyOf(lists[0].ids, lists[0].size);
+        int resultSize = result.length;
+        for (int i = 1; i < lists.length && resultSize > 0; i++) {
+            resultSize = lists[i].retainAll(result, resultSize);
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    private static long trigramAt(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    /**
+     * The ids of the persons holding a trigram, in increasing order.
+     */
+    private static class PostingList {
+        private int[] ids = new int[4];
+        private int size = 0;
+
+        /**
+         * Adds {@code id}, which is at least as large as every id added before.
+         * A person holding the trigram more than once is only added once, as its ids are added one after another.
+         */
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        /**
+         * Keeps only the first {@code count} ids of the sorted {@code others} that are in this list, moving them to
+         * the front of {@code others}, and returns how many were kept.
+         */
+        int retainAll(int[] others, int count) {
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < count && from < size; i++) {
+                int position = Arrays.binarySearch(ids, from, size, others[i]);
+                if (position >= 0) {
+                    others[kept++] = others[i];
+                    from = position + 1;
+                } else {
+                    from = -position - 1;
+                }
+            }
+            return kept;
+        }
+    }
+
+    /**
+     * A predicate that only tests the persons that the index found as candidates, and the persons added after it was
+     * created.
+     */
+    private static class NarrowedPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private Set<Person> candidates;
+
+        NarrowedPredicate(Set<Person> candidates, Predicate<Person> predicate) {
+            this.candidates = candidates;
+            this.predicate = predicate;
+        }
+
+        void addCandidate(Person person) {
+            if (candidates != null) {
+                candidates.add(person);
+            }
+        }
+
+        /**
+         * Stops narrowing, so that every person is tested.
+         */
+        void widen() {
+            candidates = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return (candidates == null || candidates.contains(person)) && predicate.test(person);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.coursebook.model.person;
+
+/**
+ * The lowercase text of the fields of a {@code Person} that {@code find} searches, so that searching the same person
+ * again does not lowercase its fields again.
+ * Guarantees: immutable, so it can be shared between threads without synchronization.
+ */
+final class PersonSearchKeys {
+
+    final String name;
+    final String[] nameWords;
+    final String phone;
+    final String email;
+    final String address;
+    final String[] tags;
+
+    PersonSearchKeys(Person person) {
+        name = person.getName().fullName.toLowerCase();
+        nameWords = name.trim().split("\\s+");
+        phone = person.getPhone().value.toLowerCase();
+        email = person.getEmail().value.toLowerCase();
+        address = person.getAddress().value.toLowerCase();
+        tags = person.getTags().stream().map(tag -> tag.tagName.toLowerCase()).toArray(String[]::new);
+    }
+}
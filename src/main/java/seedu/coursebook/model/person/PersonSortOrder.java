@@ -0,0 +1,53 @@
+package seedu.coursebook.model.person;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+
+/**
+ * The orders in which the person list can be displayed.
+ * Each order is a view over the person list, so applying one never changes the stored order of the persons.
+ */
+public enum PersonSortOrder {
+    /** Persons are displayed in the order they are stored in. */
+    NONE(null),
+    /** Persons are displayed by name, from A to Z. */
+    NAME_ASCENDING(Comparator.comparing(person -> person.getName().fullName)),
+    /** Persons are displayed by name, from Z to A. */
+    NAME_DESCENDING(NAME_ASCENDING.comparator.reversed()),
+    /** Persons are displayed by how soon their next birthday is, counting from today. */
+    UPCOMING_BIRTHDAY(Comparator.comparingInt(PersonSortOrder::daysUntilNextBirthday));
+
+    private final Comparator<Person> comparator;
+
+    PersonSortOrder(Comparator<Person> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the comparator of this order, or null if persons are displayed in their stored order.
+     */
+    public Comparator<Person> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns the number of days from today until the next birthday of {@code person}, or
+     * {@code Integer.MAX_VALUE} if the person has no birthday.
+     */
+    private static int daysUntilNextBirthday(Person person) {
+        if (person.getBirthday() == null) {
+            return Integer.MAX_VALUE;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate birthday = person.getBirthday().getDate();
+        LocalDate nextBirthday = birthday.withYear(today.getYear());
+
+        if (nextBirthday.isBefore(today)) {
+            nextBirthday = nextBirthday.plusYears(1);
+        }
+
+        return (int) ChronoUnit.DAYS.between(today, nextBirthday);
+    }
+}
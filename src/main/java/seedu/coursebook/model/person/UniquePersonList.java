@@ -3,8 +3,14 @@ package seedu.coursebook.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.coursebook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +24,11 @@ import seedu.coursebook.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Each identity field ({@code Name}, {@code Email} and {@code Phone}) is additionally kept in a hash index so that
+ * identity lookups do not need to scan the list. Every mutation keeps these indexes in sync with the backing list.
+ * The contents are also mirrored in a {@code PersistentPersonList}, so that a snapshot of the list can be taken in
+ * O(1) and shares all unchanged persons with later snapshots.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,12 +39,20 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<Name, Person> nameIndex = new HashMap<>();
+    private final Map<Email, Person> emailIndex = new HashMap<>();
+    private final Map<Phone, Person> phoneIndex = new HashMap<>();
+
+    private PersistentPersonList snapshot = PersistentPersonList.empty();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName())
+                || emailIndex.containsKey(toCheck.getEmail())
+                || phoneIndex.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -46,6 +65,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+        snapshot = snapshot.append(toAdd);
     }
 
     /**
@@ -61,11 +82,15 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person existing = internalList.get(index);
+        if (isClaimedByOther(editedPerson, existing)) {
             throw new DuplicatePersonException();
         }
 
+        unindex(existing);
         internalList.set(index, editedPerson);
+        index(editedPerson);
+        snapshot = snapshot.set(index, editedPerson);
     }
 
     /**
@@ -74,27 +99,138 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(internalList.remove(index));
+        snapshot = snapshot.remove(index);
+    }
+
+    /**
+     * Replaces every person that is a key of {@code replacements} with its value, in a single pass over the list.
+     * Each replaced position fires its own single-element change, and persons that are not keys are left untouched.
+     * Keys are looked up with the map's own equality, so an {@code IdentityHashMap} of persons taken from this list
+     * can be used to avoid hashing every person.
+     * No replacement may have the same identity as another person in the list, or as another replacement.
+     *
+     * @throws DuplicatePersonException if a replacement clashes with another person or another replacement, in which
+     *     case nothing is replaced.
+     */
+    public void setPersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+
+        List<Integer> positions = new ArrayList<>(replacements.size());
+        Set<Name> replacementNames = new HashSet<>();
+        Set<Email> replacementEmails = new HashSet<>();
+        Set<Phone> replacementPhones = new HashSet<>();
+        for (int i = 0; i < internalList.size() && positions.size() < replacements.size(); i++) {
+            Person existing = internalList.get(i);
+            Person replacement = replacements.get(existing);
+            if (replacement == null) {
+                continue;
+            }
+            if (isClaimedByOther(replacement, existing)
+                    || !replacementNames.add(replacement.getName())
+                    || !replacementEmails.add(replacement.getEmail())
+                    || !replacementPhones.add(replacement.getPhone())) {
+                throw new DuplicatePersonException();
+            }
+            positions.add(i);
+        }
+
+        for (int position : positions) {
+            Person existing = internalList.get(position);
+            Person replacement = replacements.get(existing);
+            unindex(existing);
+            internalList.set(position, replacement);
+            index(replacement);
+            snapshot = snapshot.set(position, replacement);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        clearIndexes();
+        nameIndex.putAll(replacement.nameIndex);
+        emailIndex.putAll(replacement.emailIndex);
+        phoneIndex.putAll(replacement.phoneIndex);
+        snapshot = replacement.snapshot;
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every identity clash if {@code persons} contains duplicates.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<IdentityConflict> conflicts = findIdentityConflicts(persons);
+        if (!conflicts.isEmpty()) {
+            throw new DuplicatePersonException(conflicts);
         }
 
         internalList.setAll(persons);
+        clearIndexes();
+        persons.forEach(this::index);
+        snapshot = PersistentPersonList.of(persons);
+    }
+
+    /**
+     * Replaces the persons in positions {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement},
+     * firing a single-element replacement, a whole-list replacement, or a removal followed by an addition.
+     * {@code replacement} is trusted to keep the list unique, so it is not validated.
+     */
+    public void replaceRange(int from, int to, List<Person> replacement) {
+        requireAllNonNull(replacement);
+        List<Person> removed = new ArrayList<>(internalList.subList(from, to));
+        removed.forEach(this::unindex);
+
+        if (from == 0 && to == internalList.size()) {
+            internalList.setAll(replacement);
+            snapshot = PersistentPersonList.of(replacement);
+        } else if (removed.size() == 1 && replacement.size() == 1) {
+            internalList.set(from, replacement.get(0));
+            snapshot = snapshot.set(from, replacement.get(0));
+        } else {
+            internalList.remove(from, to);
+            internalList.addAll(from, replacement);
+            for (int i = from; i < to; i++) {
+                snapshot = snapshot.remove(from);
+            }
+            for (int i = 0; i < replacement.size(); i++) {
+                snapshot = snapshot.insert(from + i, replacement.get(i));
+            }
+        }
+        replacement.forEach(this::index);
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list in O(1).
+     */
+    public PersistentPersonList snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with a snapshot previously returned by {@link #snapshot()}.
+     * The snapshot is trusted to hold unique persons, so it is not validated again.
+     */
+    public void restore(PersistentPersonList snapshot) {
+        requireNonNull(snapshot);
+        if (snapshot == this.snapshot) {
+            return;
+        }
+
+        internalList.setAll(snapshot.toList());
+        clearIndexes();
+        internalList.forEach(this::index);
+        this.snapshot = snapshot;
     }
 
     /**
@@ -135,16 +271,63 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns true if any identity field of {@code toCheck} already belongs to a person other than {@code owner}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private boolean isClaimedByOther(Person toCheck, Person owner) {
+        return isOtherPerson(nameIndex.get(toCheck.getName()), owner)
+                || isOtherPerson(emailIndex.get(toCheck.getEmail()), owner)
+                || isOtherPerson(phoneIndex.get(toCheck.getPhone()), owner);
+    }
+
+    private static boolean isOtherPerson(Person claimant, Person owner) {
+        return claimant != null && claimant != owner;
+    }
+
+    private void index(Person person) {
+        nameIndex.put(person.getName(), person);
+        emailIndex.put(person.getEmail(), person);
+        phoneIndex.put(person.getPhone(), person);
+    }
+
+    private void unindex(Person person) {
+        nameIndex.remove(person.getName(), person);
+        emailIndex.remove(person.getEmail(), person);
+        phoneIndex.remove(person.getPhone(), person);
+    }
+
+    private void clearIndexes() {
+        nameIndex.clear();
+        emailIndex.clear();
+        phoneIndex.clear();
+    }
+
+    /**
+     * Returns every pair of persons in {@code persons} that share a name, email or phone, in a single pass.
+     * Each person is paired with the first earlier person holding the same value. An empty list means that
+     * {@code persons} contains only unique persons.
+     */
+    public static List<IdentityConflict> findIdentityConflicts(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<Name, Integer> seenNames = new HashMap<>();
+        Map<Email, Integer> seenEmails = new HashMap<>();
+        Map<Phone, Integer> seenPhones = new HashMap<>();
+        List<IdentityConflict> conflicts = new ArrayList<>();
+
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            checkIdentityField(seenNames, person, Person::getName, "name", i, conflicts);
+            checkIdentityField(seenEmails, person, Person::getEmail, "email", i, conflicts);
+            checkIdentityField(seenPhones, person, Person::getPhone, "phone", i, conflicts);
+        }
+        return conflicts;
+    }
+
+    private static <K> void checkIdentityField(Map<K, Integer> seen, Person person, Function<Person, K> field,
+            String fieldName, int index, List<IdentityConflict> conflicts) {
+        K key = field.apply(person);
+        Integer earlierIndex = seen.putIfAbsent(key, index);
+        if (earlierIndex != null) {
+            conflicts.add(new IdentityConflict(earlierIndex, index, fieldName, key.toString()));
         }
-        return true;
     }
 }
@@ -1,11 +1,41 @@
 package seedu.coursebook.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.coursebook.model.person.IdentityConflict;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<IdentityConflict> conflicts;
+
+    /**
+     * Constructs a {@code DuplicatePersonException} without details of the clashing persons.
+     */
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        conflicts = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports every identity clash in {@code conflicts}.
+     */
+    public DuplicatePersonException(List<IdentityConflict> conflicts) {
+        super("Operation would result in duplicate persons:\n" + conflicts.stream()
+                .map(IdentityConflict::toString)
+                .collect(Collectors.joining("\n")));
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    /**
+     * Returns the identity clashes that caused this exception, or an empty list if they were not recorded.
+     */
+    public List<IdentityConflict> getConflicts() {
+        return conflicts;
     }
 }
@@ -0,0 +1,95 @@
+package seedu.coursebook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.coursebook.commons.core.LogsCenter;
+import seedu.coursebook.model.ReadOnlyCourseBook;
+
+/**
+ * Saves course books to a {@code CourseBookStorage} on a background thread.
+ * Requests that arrive while a save is in progress are coalesced, so only the latest course book requested is written
+ * next. The course books passed in must not change after they are requested, as they are read from the background
+ * thread.
+ */
+public class AsyncCourseBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncCourseBookSaver.class);
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 5;
+
+    private final CourseBookStorage storage;
+    private final ThreadPoolExecutor executor;
+    private final AtomicReference<ReadOnlyCourseBook> pendingCourseBook = new AtomicReference<>();
+    private final List<Consumer<IOException>> failureListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a saver that writes to {@code storage}. Its thread is only kept alive while there are saves to do.
+     */
+    public AsyncCourseBookSaver(CourseBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        executor = new ThreadPoolExecutor(1, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "CourseBook-saver");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Adds a listener that is told of every save that fails. Listeners are called on the saver's thread.
+     */
+    public void addFailureListener(Consumer<IOException> listener) {
+        requireNonNull(listener);
+        failureListeners.add(listener);
+    }
+
+    /**
+     * Schedules {@code courseBook} to be saved, replacing any course book that is still waiting to be saved.
+     * Returns immediately.
+     */
+    public void requestSave(ReadOnlyCourseBook courseBook) {
+        requireNonNull(courseBook);
+        if (pendingCourseBook.getAndSet(courseBook) == null) {
+            executor.execute(this::savePendingCourseBook);
+        }
+    }
+
+    private void savePendingCourseBook() {
+        ReadOnlyCourseBook courseBook = pendingCourseBook.getAndSet(null);
+        if (courseBook == null) {
+            return;
+        }
+
+        try {
+            storage.saveCourseBook(courseBook);
+        } catch (IOException ioe) {
+            logger.warning("Could not save data file: " + ioe);
+            failureListeners.forEach(listener -> listener.accept(ioe));
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written or has failed.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new AssertionError("An empty task cannot fail", ee);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package seedu.coursebook.storage;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.coursebook.commons.exceptions.IllegalValueException;
+import seedu.coursebook.model.ReadOnlyCourseBook;
+import seedu.coursebook.model.course.Course;
+import seedu.coursebook.model.course.CourseColor;
+import seedu.coursebook.model.person.Address;
+import seedu.coursebook.model.person.Birthday;
+import seedu.coursebook.model.person.Email;
+import seedu.coursebook.model.person.Name;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.Phone;
+import seedu.coursebook.model.tag.Tag;
+
+/**
+ * A class to access CourseBook data stored in a compact binary file on the hard disk.
+ * Loading it skips the reflection and repeated validation of the JSON path, as each course code and tag is stored and
+ * validated once no matter how many persons have it.
+ * <p>
+ * The file holds, in order:
+ * <ul>
+ *     <li>the magic bytes {@code CBKB} and the format version as a varint</li>
+ *     <li>the string table: a varint count, then each course code and tag name as a string</li>
+ *     <li>the persons: a varint count, then for each person its name, phone, email and address as strings, a flags
+ *     byte for whether it is a favourite and has a birthday, its birthday if it has one, its tags as a varint count
+ *     of string table indexes, and its courses as a varint count of string table indexes each followed by the
+ *     ordinal of its colour</li>
+ *     <li>a CRC32 of everything before it, as 4 big-endian bytes</li>
+ * </ul>
+ * Strings are written as a varint length followed by their UTF-8 bytes, and varints are unsigned LEB128.
+ */
+public class BinaryCourseBookStorage extends FileCourseBookStorage {
+
+    /** Version of the format written, which is bumped whenever the layout changes. */
+    public static final int VERSION = 1;
+
+    private static final byte[] MAGIC = {'C', 'B', 'K', 'B'};
+    private static final int FAVOURITE_FLAG = 1;
+    private static final int BIRTHDAY_FLAG = 2;
+    private static final CourseColor[] COLORS = CourseColor.values();
+
+    public BinaryCourseBookStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    public BinaryCourseBookStorage(Path filePath, int backupCount) {
+        this(filePath, backupCount, 0);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}.
+     *
+     * @param backupCount number of previous generations of the file to keep as backups.
+     * @param compressionLevel gzip compression level of the file from 1 to 9, or 0 if it is not compressed.
+     */
+    public BinaryCourseBookStorage(Path filePath, int backupCount, int compressionLevel) {
+        super(filePath, backupCount, compressionLevel);
+    }
+
+    /**
+     * Returns true if {@code in} is at the start of a binary course book. Leaves {@code in} where it was, so it must
+     * support {@link InputStream#mark}.
+     */
+    static boolean isBinary(InputStream in) throws IOException {
+        in.mark(MAGIC.length);
+        byte[] header = in.readNBytes(MAGIC.length);
+        in.reset();
+        return Arrays.equals(header, MAGIC);
+    }
+
+    /**
+     * Reads the persons of the binary course book in {@code in}.
+     *
+     * @param size size of the file being read, which no count or length in it can exceed.
+     * @throws IOException if the file is malformed, of an unknown version or fails its checksum.
+     * @throws IllegalValueException if a person in the file is invalid.
+     */
+    static List<Person> readPersons(InputStream in, long size) throws IOException, IllegalValueException {
+        CRC32 crc = new CRC32();
+        DataInputStream data = new DataInputStream(new CheckedInputStream(in, crc));
+        data.readFully(new byte[MAGIC.length]);
+        int version = readVarint(data);
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary data file version " + version);
+        }
+
+        String[] strings = new String[readCount(data, size)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(data, size);
+        }
+
+        // Each distinct tag and course is validated and created once, then shared by every person that has it
+        Tag[] tags = new Tag[strings.length];
+        Course[] courses = new Course[strings.length * COLORS.length];
+        int personCount = readCount(data, size);
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(readPerson(data, size, strings, tags, courses));
+        }
+
+        int checksum = (int) crc.getValue();
+        if (new DataInputStream(in).readInt() != checksum) {
+            throw new IOException("Binary data file failed its checksum");
+        }
+        if (in.read() != -1) {
+            throw new IOException("Unexpected data after the checksum of the binary data file");
+        }
+        return persons;
+    }
+
+    private static Person readPerson(DataInputStream data, long size, String[] strings, Tag[] tags, Course[] courses)
+            throws IOException, IllegalValueException {
+        String name = readString(data, size);
+        String phone = readString(data, size);
+        String email = readString(data, size);
+        String address = readString(data, size);
+        int flags = data.readUnsignedByte();
+        String birthday = (flags & BIRTHDAY_FLAG) != 0 ? readString(data, size) : null;
+
+        try {
+            Set<Tag> personTags = new HashSet<>();
+            int tagCount = readCount(data, size);
+            for (int i = 0; i < tagCount; i++) {
+                int index = readIndex(data, strings.length);
+                if (tags[index] == null) {
+                    tags[index] = new Tag(strings[index]);
+                }
+                personTags.add(tags[index]);
+            }
+
+            Set<Course> personCourses = new HashSet<>();
+            int courseCount = readCount(data, size);
+            for (int i = 0; i < courseCount; i++) {
+                int index = readIndex(data, strings.length);
+                int color = readIndex(data, COLORS.length);
+                int cacheIndex = index * COLORS.length + color;
+                if (courses[cacheIndex] == null) {
+                    courses[cacheIndex] = new Course(strings[index], COLORS[color]);
+                }
+                personCourses.add(courses[cacheIndex]);
+            }
+
+            return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address), personTags,
+                    personCourses, toBirthday(birthday), (flags & FAVOURITE_FLAG) != 0);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
+        }
+    }
+
+    /**
+     * Returns {@code birthday} as a {@code Birthday}, or null if it is missing or invalid, as the JSON format does.
+     */
+    private static Birthday toBirthday(String birthday) {
+        if (birthday == null) {
+            return null;
+        }
+        try {
+            return new Birthday(birthday);
+        } catch (IllegalArgumentException iae) {
+            return null;
+        }
+    }
+
+    @Override
+    protected void writeCourseBook(ReadOnlyCourseBook courseBook, OutputStream out) throws IOException {
+        List<Person> persons = courseBook.getPersonList();
+        Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+        for (Person person : persons) {
+            person.getTags().forEach(tag -> stringIndexes.putIfAbsent(tag.tagName, stringIndexes.size()));
+            person.getCourses().forEach(course -> stringIndexes.putIfAbsent(course.courseCode, stringIndexes.size()));
+        }
+
+        CRC32 crc = new CRC32();
+        DataOutputStream data = new DataOutputStream(new CheckedOutputStream(out, crc));
+        data.write(MAGIC);
+        writeVarint(data, VERSION);
+        writeVarint(data, stringIndexes.size());
+        for (String string : stringIndexes.keySet()) {
+            writeString(data, string);
+        }
+
+        writeVarint(data, persons.size());
+        for (Person person : persons) {
+            writeString(data, person.getName().fullName);
+            writeString(data, person.getPhone().value);
+            writeString(data, person.getEmail().value);
+            writeString(data, person.getAddress().value);
+            data.writeByte((person.isFavourite() ? FAVOURITE_FLAG : 0)
+                    | (person.getBirthday() != null ? BIRTHDAY_FLAG : 0));
+            if (person.getBirthday() != null) {
+                writeString(data, person.getBirthday().value);
+            }
+            writeVarint(data, person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeVarint(data, stringIndexes.get(tag.tagName));
+            }
+            writeVarint(data, person.getCourses().size());
+            for (Course course : person.getCourses()) {
+                writeVarint(data, stringIndexes.get(course.courseCode));
+                writeVarint(data, course.color.ordinal());
+            }
+        }
+        data.flush();
+        out.write(ByteBuffer.allocate(Integer.BYTES).putInt((int) crc.getValue()).array());
+    }
+
+    private static void writeVarint(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarint(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in binary data file");
+    }
+
+    /**
+     * Reads a count or length, which cannot be more than the {@code size} of the file it is in.
+     */
+    private static int readCount(DataInput in, long size) throws IOException {
+        int count = readVarint(in);
+        if (count < 0 || count > size) {
+            throw new IOException("Invalid count " + count + " in binary data file");
+        }
+        return count;
+    }
+
+    /**
+     * Reads an index into a table of {@code tableSize} entries.
+     */
+    private static int readIndex(DataInput in, int tableSize) throws IOException {
+        int index = readVarint(in);
+        if (index < 0 || index >= tableSize) {
+            throw new IOException("Invalid index " + index + " in binary data file");
+        }
+        return index;
+    }
+
+    private static void writeString(DataOutput out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in, long size) throws IOException {
+        byte[] bytes = new byte[readCount(in, size)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
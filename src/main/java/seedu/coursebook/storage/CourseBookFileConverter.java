@@ -0,0 +1,32 @@
+package seedu.coursebook.storage;
+
+import static seedu.coursebook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import seedu.coursebook.commons.exceptions.DataLoadingException;
+import seedu.coursebook.model.ReadOnlyCourseBook;
+
+/**
+ * Converts course book data files between the JSON and binary formats.
+ * Both formats hold exactly the same data, so converting a file to the other format and back loses nothing.
+ */
+public class CourseBookFileConverter {
+
+    /**
+     * Reads the data file at {@code source}, in either format, and saves it through {@code target} in the format and
+     * at the path of {@code target}. Backups of {@code source} are not read.
+     *
+     * @throws DataLoadingException if {@code source} is missing or cannot be loaded.
+     * @throws IOException if the converted file cannot be written.
+     */
+    public static void convert(Path source, FileCourseBookStorage target) throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+
+        ReadOnlyCourseBook courseBook = target.readCourseBookFile(source)
+                .orElseThrow(() -> new DataLoadingException(new NoSuchFileException(source.toString())));
+        target.saveCourseBook(courseBook);
+    }
+}
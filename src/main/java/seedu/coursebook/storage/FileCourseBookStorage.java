@@ -0,0 +1,269 @@
+package seedu.coursebook.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.coursebook.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.coursebook.commons.core.LogsCenter;
+import seedu.coursebook.commons.exceptions.DataLoadingException;
+import seedu.coursebook.commons.exceptions.IllegalValueException;
+import seedu.coursebook.commons.util.FileUtil;
+import seedu.coursebook.model.ReadOnlyCourseBook;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * A {@code CourseBookStorage} that keeps the course book in a single data file, in a format chosen by the subclass.
+ * Each save is written to a temporary file and forced to disk before it replaces the data file, and the replaced
+ * generations can be kept as backups that are read if the data file is missing or invalid.
+ * <p>
+ * Data files can be written compressed in a gzip container, which is several times smaller for slow shared drives.
+ * <p>
+ * Data files in any of the supported formats can be read, compressed or not, whichever format this storage writes,
+ * so switching formats converts the data file on the next save.
+ */
+public abstract class FileCourseBookStorage implements CourseBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(FileCourseBookStorage.class);
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private final int backupCount;
+    private final int compressionLevel;
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which is not compressed.
+     *
+     * @param backupCount number of previous generations of the file to keep as backups.
+     */
+    protected FileCourseBookStorage(Path filePath, int backupCount) {
+        this(filePath, backupCount, 0);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}.
+     *
+     * @param backupCount number of previous generations of the file to keep as backups.
+     * @param compressionLevel gzip compression level of the file from 1 to 9, or 0 if it is not compressed.
+     */
+    protected FileCourseBookStorage(Path filePath, int backupCount, int compressionLevel) {
+        checkArgument(compressionLevel >= 0 && compressionLevel <= Deflater.BEST_COMPRESSION,
+                "Compression level must be from 0 to " + Deflater.BEST_COMPRESSION);
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public Path getCourseBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the backup of the file at {@code filePath} that is {@code generation} saves old.
+     */
+    public static Path getBackupFilePath(Path filePath, int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX + generation);
+    }
+
+    @Override
+    public Optional<ReadOnlyCourseBook> readCourseBook() throws DataLoadingException {
+        return readCourseBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCourseBook()}.
+     * If the file is missing or cannot be loaded, its backups are read instead, newest first.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyCourseBook> readCourseBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        DataLoadingException loadingException = null;
+        try {
+            Optional<ReadOnlyCourseBook> courseBook = readCourseBookFile(filePath);
+            if (courseBook.isPresent()) {
+                return courseBook;
+            }
+        } catch (DataLoadingException e) {
+            loadingException = e;
+        }
+
+        for (int generation = 1; generation <= backupCount; generation++) {
+            Path backupPath = getBackupFilePath(filePath, generation);
+            try {
+                Optional<ReadOnlyCourseBook> courseBook = readCourseBookFile(backupPath);
+                if (courseBook.isPresent()) {
+                    logger.warning("Data file " + filePath + " could not be read, using backup " + backupPath);
+                    return courseBook;
+                }
+            } catch (DataLoadingException e) {
+                // Try the next older generation
+            }
+        }
+
+        if (loadingException != null) {
+            throw loadingException;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the course book in the file at {@code filePath} only, without falling back to its backups.
+     * The format of the file, and whether it is compressed, is detected from its first bytes.
+     *
+     * @throws DataLoadingException if the file cannot be loaded.
+     */
+    Optional<ReadOnlyCourseBook> readCourseBookFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Data file " + filePath + " found.");
+
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(filePath))) {
+            long size = Files.size(filePath);
+            InputStream in = file;
+            if (isCompressed(file)) {
+                in = new BufferedInputStream(new GZIPInputStream(file, COMPRESSION_BUFFER_SIZE));
+                size = readUncompressedSize(filePath);
+            }
+            List<Person> persons = BinaryCourseBookStorage.isBinary(in)
+                    ? BinaryCourseBookStorage.readPersons(in, size)
+                    : JsonCourseBookStorage.readPersons(in);
+            return Optional.of(JsonSerializableCourseBook.toCourseBook(persons));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveCourseBook(ReadOnlyCourseBook courseBook) throws IOException {
+        saveCourseBook(courseBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCourseBook(ReadOnlyCourseBook)}.
+     * The file is only replaced once the new content is on disk, in a single rename, after its previous generation has
+     * been linked or copied to the newest backup. The file is therefore always present, holding either generation.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveCourseBook(ReadOnlyCourseBook courseBook, Path filePath) throws IOException {
+        requireNonNull(courseBook);
+        requireNonNull(filePath);
+
+        Path tempFile = FileUtil.writeToTempFile(filePath, out -> writeCompressedIfNeeded(courseBook, out));
+        try {
+            rotateBackups(filePath);
+            FileUtil.moveAtomically(tempFile, filePath);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+    }
+
+    /**
+     * Returns true if {@code in} is at the start of a gzip container. Leaves {@code in} where it was, so it must
+     * support {@link InputStream#mark}.
+     */
+    static boolean isCompressed(InputStream in) throws IOException {
+        in.mark(GZIP_MAGIC.length);
+        byte[] header = in.readNBytes(GZIP_MAGIC.length);
+        in.reset();
+        return Arrays.equals(header, GZIP_MAGIC);
+    }
+
+    /**
+     * Returns the size of the data compressed in the gzip file at {@code filePath}, from the last 4 bytes of the file.
+     * The size is only stored modulo 2^32, which is far more than any data file.
+     */
+    private static long readUncompressedSize(Path filePath) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(filePath)) {
+            ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.position(Math.max(0, channel.size() - Integer.BYTES));
+            while (trailer.hasRemaining() && channel.read(trailer) >= 0) {
+                // Keep reading until the trailer is full or the file ends
+            }
+            return trailer.hasRemaining() ? 0 : Integer.toUnsignedLong(trailer.getInt(0));
+        }
+    }
+
+    private void writeCompressedIfNeeded(ReadOnlyCourseBook courseBook, OutputStream out) throws IOException {
+        if (compressionLevel == 0) {
+            writeCourseBook(courseBook, out);
+            return;
+        }
+        CompressingOutputStream compressed = new CompressingOutputStream(out, compressionLevel);
+        // Buffered, as the formats write many small pieces that are slow to compress one at a time
+        OutputStream buffered = new BufferedOutputStream(compressed, COMPRESSION_BUFFER_SIZE);
+        writeCourseBook(courseBook, buffered);
+        buffered.flush();
+        compressed.finishAndRelease();
+    }
+
+    /**
+     * Writes {@code courseBook} to {@code out} in the format of this storage, leaving {@code out} open.
+     */
+    protected abstract void writeCourseBook(ReadOnlyCourseBook courseBook, OutputStream out) throws IOException;
+
+    /**
+     * Moves each backup of {@code filePath} one generation older, dropping the oldest, and links or copies the file
+     * itself to the newest backup, leaving it in place.
+     */
+    private void rotateBackups(Path filePath) throws IOException {
+        if (backupCount == 0 || !Files.exists(filePath)) {
+            return;
+        }
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backupPath = getBackupFilePath(filePath, generation);
+            if (Files.exists(backupPath)) {
+                FileUtil.moveAtomically(backupPath, getBackupFilePath(filePath, generation + 1));
+            }
+        }
+        FileUtil.linkOrCopy(filePath, getBackupFilePath(filePath, 1));
+    }
+
+    /**
+     * A gzip stream that compresses at a chosen level, and can be finished without closing the stream it writes to.
+     */
+    private static class CompressingOutputStream extends GZIPOutputStream {
+        CompressingOutputStream(OutputStream out, int level) throws IOException {
+            super(out, COMPRESSION_BUFFER_SIZE);
+            def.setLevel(level);
+        }
+
+        /**
+         * Writes the rest of the compressed data and frees the compressor, leaving the underlying stream open.
+         */
+        void finishAndRelease() throws IOException {
+            finish();
+            def.end();
+        }
+    }
+}
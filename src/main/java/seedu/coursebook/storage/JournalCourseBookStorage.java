@@ -0,0 +1,432 @@
+package seedu.coursebook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.coursebook.commons.core.LogsCenter;
+import seedu.coursebook.commons.exceptions.DataLoadingException;
+import seedu.coursebook.commons.exceptions.IllegalValueException;
+import seedu.coursebook.commons.util.FileUtil;
+import seedu.coursebook.commons.util.JsonUtil;
+import seedu.coursebook.logic.commands.ThemeCommand;
+import seedu.coursebook.model.CourseBook;
+import seedu.coursebook.model.ReadOnlyCourseBook;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * A {@code CourseBookStorage} that keeps the course book as a JSON snapshot plus an append-only journal next to it.
+ * Each save appends one checksummed record holding only the edits made since the previous save, so a save writes
+ * O(edit) bytes instead of the whole course book. Once the journal grows larger than the snapshot, the course book is
+ * compacted into a new snapshot and the journal is restarted.
+ * <p>
+ * Reading loads the snapshot and replays the journal on top of it. A record cut short by a crash, and anything after
+ * it, is ignored, so the course book reads back as of the last save that completed.
+ */
+public class JournalCourseBookStorage implements CourseBookStorage {
+
+    /** Suffix added to the data file's name to get the name of its journal. */
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    /** The journal is not compacted while it is smaller than this, however small the snapshot is. */
+    static final long MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalCourseBookStorage.class);
+    private static final int RECORD_HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final Path filePath;
+    private final FileCourseBookStorage snapshotStorage;
+    private SavedState savedState;
+
+    public JournalCourseBookStorage(Path filePath) {
+        this(new JsonCourseBookStorage(filePath));
+    }
+
+    /**
+     * Creates a storage that keeps its snapshots in {@code snapshotStorage} and a journal next to them.
+     */
+    public JournalCourseBookStorage(FileCourseBookStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.filePath = snapshotStorage.getCourseBookFilePath();
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    @Override
+    public Path getCourseBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyCourseBook> readCourseBook() throws DataLoadingException {
+        return readCourseBook(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal on top of it.
+     * A journal that was written for a different snapshot is ignored. If the snapshot is missing or invalid, its newest
+     * valid backup is read on its own, as the journal does not apply to it.
+     *
+     * @throws DataLoadingException if the snapshot or a complete journal record cannot be read.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyCourseBook> readCourseBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyCourseBook> snapshot;
+        try {
+            snapshot = snapshotStorage.readCourseBookFile(filePath);
+        } catch (DataLoadingException e) {
+            snapshot = Optional.empty();
+        }
+        if (snapshot.isEmpty()) {
+            // Whatever is read from the backups is compacted into a new snapshot on the next save
+            savedState = null;
+            return snapshotStorage.readCourseBook(filePath);
+        }
+
+        try {
+            long checksum = checksumOf(filePath);
+            List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+            Replay replay = replayJournal(getJournalFilePath(filePath), checksum, persons);
+
+            CourseBook courseBook = JsonSerializableCourseBook.toCourseBook(persons);
+            if (replay.theme != null) {
+                courseBook.setCurrentTheme(replay.theme);
+            }
+            savedState = new SavedState(filePath, persons, courseBook.getCurrentTheme(), checksum,
+                    Files.size(filePath), replay.journalLength);
+            return Optional.of(courseBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading journal of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalPath} to {@code persons}, if the journal was written for the
+     * snapshot with {@code baseChecksum}. Reading stops at the first incomplete or corrupted record.
+     */
+    private static Replay replayJournal(Path journalPath, long baseChecksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return new Replay(null, 0);
+        }
+
+        long journalSize = Files.size(journalPath);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+            byte[] payload = readRecordPayload(in, journalSize);
+            JsonAdaptedJournalRecord header = payload == null ? null : decodeRecord(payload);
+            if (header == null || header.getBaseChecksum() == null || header.getBaseChecksum() != baseChecksum) {
+                logger.info("Ignoring journal " + journalPath + " as it does not belong to the current snapshot");
+                return new Replay(null, 0);
+            }
+
+            ThemeCommand.Theme theme = header.getTheme();
+            long position = RECORD_HEADER_BYTES + payload.length;
+            int recordCount = 0;
+            while ((payload = readRecordPayload(in, journalSize - position)) != null) {
+                JsonAdaptedJournalRecord record = decodeRecord(payload);
+                record.applyTo(persons);
+                if (record.getTheme() != null) {
+                    theme = record.getTheme();
+                }
+                position += RECORD_HEADER_BYTES + payload.length;
+                recordCount++;
+            }
+            if (position < journalSize) {
+                logger.warning("Ignoring " + (journalSize - position) + " bytes of incomplete journal records in "
+                        + journalPath);
+            }
+            logger.info("Replayed " + recordCount + " journal records from " + journalPath);
+            return new Replay(theme, position);
+        }
+    }
+
+    /**
+     * Returns the payload of the next record of {@code in}, or null if the record is incomplete or corrupted.
+     *
+     * @param remaining number of bytes left in the journal.
+     */
+    private static byte[] readRecordPayload(DataInputStream in, long remaining) throws IOException {
+        if (remaining < RECORD_HEADER_BYTES) {
+            return null;
+        }
+        int length = in.readInt();
+        int checksum = in.readInt();
+        if (length < 0 || length > remaining - RECORD_HEADER_BYTES) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue() == checksum ? payload : null;
+    }
+
+    private static JsonAdaptedJournalRecord decodeRecord(byte[] payload) throws IOException {
+        return JsonUtil.fromJsonString(new String(payload, StandardCharsets.UTF_8), JsonAdaptedJournalRecord.class);
+    }
+
+    @Override
+    public void saveCourseBook(ReadOnlyCourseBook courseBook) throws IOException {
+        saveCourseBook(courseBook, filePath);
+    }
+
+    /**
+     * Saves {@code courseBook} to the snapshot at {@code filePath} and its journal. Only the edits since the last
+     * save or read of the same file are written, unless the journal is due to be compacted.
+     */
+    @Override
+    public synchronized void saveCourseBook(ReadOnlyCourseBook courseBook, Path filePath) throws IOException {
+        requireNonNull(courseBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = new ArrayList<>(courseBook.getPersonList());
+        ThemeCommand.Theme theme = courseBook.getCurrentTheme();
+        try {
+            if (savedState == null || !savedState.filePath.equals(filePath) || !Files.exists(filePath)
+                    || savedState.isDueForCompaction()) {
+                compact(courseBook, persons, theme, filePath);
+            } else {
+                append(persons, theme);
+            }
+        } catch (IOException ioe) {
+            // The files may no longer hold what was last saved, so the next save rewrites them from scratch.
+            savedState = null;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Writes {@code courseBook} as a new snapshot at {@code filePath} and starts a new, empty journal for it.
+     * Each file is replaced atomically.
+     */
+    private void compact(ReadOnlyCourseBook courseBook, List<Person> persons, ThemeCommand.Theme theme, Path filePath)
+            throws IOException {
+        snapshotStorage.saveCourseBook(courseBook, filePath);
+        long checksum = checksumOf(filePath);
+
+        // A crash before the new journal is in place leaves the old journal, which no longer matches the snapshot.
+        byte[] header = encodeRecord(new JsonAdaptedJournalRecord(checksum, theme.name(), null));
+        FileUtil.writeAtomically(getJournalFilePath(filePath), out -> out.write(header));
+
+        savedState = new SavedState(filePath, persons, theme, checksum, Files.size(filePath), header.length);
+        logger.info("Compacted " + filePath + " and restarted its journal");
+    }
+
+    /**
+     * Appends the edits that turn the last saved persons into {@code persons} to the journal as one record.
+     * Writes nothing if there are no edits.
+     */
+    private void append(List<Person> persons, ThemeCommand.Theme theme) throws IOException {
+        List<JsonAdaptedPersonListEdit> edits = diff(savedState.persons, persons);
+        boolean isThemeChanged = theme != savedState.theme;
+        if (edits.isEmpty() && !isThemeChanged) {
+            return;
+        }
+
+        byte[] record = encodeRecord(new JsonAdaptedJournalRecord(null, isThemeChanged ? theme.name() : null, edits));
+        Path journalPath = getJournalFilePath(savedState.filePath);
+        long position = savedState.journalLength;
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (position == 0) {
+                // The journal on disk is missing or belongs to an older snapshot
+                byte[] header = encodeRecord(new JsonAdaptedJournalRecord(savedState.checksum,
+                        savedState.snapshotTheme.name(), null));
+                writeFully(journal, header, 0);
+                position = header.length;
+            }
+            // Drops any incomplete record left behind by a crash
+            journal.truncate(position);
+            writeFully(journal, record, position);
+            journal.force(false);
+        }
+        savedState = savedState.withJournal(persons, theme, position + record.length);
+    }
+
+    /**
+     * Returns edits that turn {@code saved} into {@code current}, comparing persons by identity.
+     * Persons present in both lists keep their relative order in practice, so the edits only cover the persons that
+     * were added, removed or replaced. Any other reordering is still captured correctly, just with larger edits.
+     */
+    static List<JsonAdaptedPersonListEdit> diff(List<Person> saved, List<Person> current) {
+        int start = 0;
+        while (start < saved.size() && start < current.size() && saved.get(start) == current.get(start)) {
+            start++;
+        }
+        int savedEnd = saved.size();
+        int currentEnd = current.size();
+        while (savedEnd > start && currentEnd > start && saved.get(savedEnd - 1) == current.get(currentEnd - 1)) {
+            savedEnd--;
+            currentEnd--;
+        }
+
+        List<Person> savedMiddle = saved.subList(start, savedEnd);
+        List<Person> currentMiddle = current.subList(start, currentEnd);
+        Set<Person> inSaved = Collections.newSetFromMap(new IdentityHashMap<>());
+        inSaved.addAll(savedMiddle);
+        Set<Person> inCurrent = Collections.newSetFromMap(new IdentityHashMap<>());
+        inCurrent.addAll(currentMiddle);
+
+        List<JsonAdaptedPersonListEdit> edits = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < savedMiddle.size() || j < currentMiddle.size()) {
+            if (i < savedMiddle.size() && j < currentMiddle.size() && savedMiddle.get(i) == currentMiddle.get(j)) {
+                i++;
+                j++;
+                continue;
+            }
+
+            // Positions before this edit already match current, so the edit starts at j in the list being edited
+            int at = start + j;
+            int removed = 0;
+            List<Person> added = new ArrayList<>();
+            while ((i < savedMiddle.size() || j < currentMiddle.size()) && !(i < savedMiddle.size()
+                    && j < currentMiddle.size() && savedMiddle.get(i) == currentMiddle.get(j))) {
+                boolean canRemove = i < savedMiddle.size();
+                boolean canAdd = j < currentMiddle.size();
+                if (canRemove && !inCurrent.contains(savedMiddle.get(i))) {
+                    removed++;
+                    i++;
+                } else if (canAdd && !inSaved.contains(currentMiddle.get(j))) {
+                    added.add(currentMiddle.get(j++));
+                } else {
+                    // The person moved, so it is removed here and added again where it now is
+                    if (canRemove) {
+                        removed++;
+                        i++;
+                    }
+                    if (canAdd) {
+                        added.add(currentMiddle.get(j++));
+                    }
+                }
+            }
+            edits.add(new JsonAdaptedPersonListEdit(at, removed,
+                    added.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList())));
+        }
+        return edits;
+    }
+
+    /**
+     * Returns {@code record} as a length-prefixed, checksummed block of compact JSON.
+     */
+    private static byte[] encodeRecord(JsonAdaptedJournalRecord record) throws IOException {
+        ByteArrayOutputStream payloadStream = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(payloadStream, false)) {
+            JsonUtil.writeValue(generator, record);
+        }
+        byte[] payload = payloadStream.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .array();
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * The outcome of replaying a journal: the theme it last set, if any, and the length of its valid records.
+     */
+    private static class Replay {
+        private final ThemeCommand.Theme theme;
+        private final long journalLength;
+
+        Replay(ThemeCommand.Theme theme, long journalLength) {
+            this.theme = theme;
+            this.journalLength = journalLength;
+        }
+    }
+
+    /**
+     * What the snapshot and journal at {@code filePath} hold, as of the last save or read.
+     * A journal length of 0 means there is no usable journal yet.
+     */
+    private static class SavedState {
+        private final Path filePath;
+        private final List<Person> persons;
+        private final ThemeCommand.Theme theme;
+        private final ThemeCommand.Theme snapshotTheme;
+        private final long checksum;
+        private final long snapshotSize;
+        private final long journalLength;
+
+        SavedState(Path filePath, List<Person> persons, ThemeCommand.Theme theme, long checksum, long snapshotSize,
+                long journalLength) {
+            this(filePath, persons, theme, theme, checksum, snapshotSize, journalLength);
+        }
+
+        private SavedState(Path filePath, List<Person> persons, ThemeCommand.Theme theme,
+                ThemeCommand.Theme snapshotTheme, long checksum, long snapshotSize, long journalLength) {
+            this.filePath = filePath;
+            this.persons = persons;
+            this.theme = theme;
+            this.snapshotTheme = snapshotTheme;
+            this.checksum = checksum;
+            this.snapshotSize = snapshotSize;
+            this.journalLength = journalLength;
+        }
+
+        SavedState withJournal(List<Person> persons, ThemeCommand.Theme theme, long journalLength) {
+            return new SavedState(filePath, persons, theme, snapshotTheme, checksum, snapshotSize, journalLength);
+        }
+
+        /**
+         * Returns true once the journal is larger than both its snapshot and {@code MIN_COMPACTION_BYTES}, which keeps
+         * the cost of compaction proportional to the bytes appended since the last one.
+         */
+        boolean isDueForCompaction() {
+            return journalLength > Math.max(MIN_COMPACTION_BYTES, snapshotSize);
+        }
+    }
+}
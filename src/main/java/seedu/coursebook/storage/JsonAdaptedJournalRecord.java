@@ -0,0 +1,75 @@
+package seedu.coursebook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.coursebook.commons.exceptions.IllegalValueException;
+import seedu.coursebook.logic.commands.ThemeCommand;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * Jackson-friendly version of one record of a course book journal.
+ * The first record of a journal is its header, which names the snapshot the journal applies to and the theme at the
+ * time the snapshot was taken. Every later record holds the edits and theme change of one save.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_THEME = "Journal record has an unknown theme.";
+
+    private final Long baseChecksum;
+    private final String theme;
+    private final List<JsonAdaptedPersonListEdit> edits = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     *
+     * @param baseChecksum checksum of the snapshot the journal applies to, only present in the header.
+     * @param theme name of the theme after this record, or null if it is unchanged.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("baseChecksum") Long baseChecksum,
+            @JsonProperty("theme") String theme, @JsonProperty("edits") List<JsonAdaptedPersonListEdit> edits) {
+        this.baseChecksum = baseChecksum;
+        this.theme = theme;
+        if (edits != null) {
+            this.edits.addAll(edits);
+        }
+    }
+
+    /**
+     * Returns the checksum of the snapshot the journal applies to, or null if this is not a header.
+     */
+    public Long getBaseChecksum() {
+        return baseChecksum;
+    }
+
+    /**
+     * Returns the theme after this record, or null if this record does not change it.
+     *
+     * @throws IllegalValueException if the theme is not a known theme.
+     */
+    public ThemeCommand.Theme getTheme() throws IllegalValueException {
+        if (theme == null) {
+            return null;
+        }
+        try {
+            return ThemeCommand.Theme.valueOf(theme);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(MESSAGE_INVALID_THEME, iae);
+        }
+    }
+
+    /**
+     * Applies the edits of this record to {@code persons}, in order.
+     *
+     * @throws IllegalValueException if any edit cannot be applied.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        for (JsonAdaptedPersonListEdit edit : edits) {
+            edit.applyTo(persons);
+        }
+    }
+}
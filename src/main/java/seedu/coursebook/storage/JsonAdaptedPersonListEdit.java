@@ -0,0 +1,55 @@
+package seedu.coursebook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.coursebook.commons.exceptions.IllegalValueException;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * Jackson-friendly version of one edit to the person list, which replaces {@code removed} persons starting at
+ * position {@code at} with the {@code added} persons.
+ */
+class JsonAdaptedPersonListEdit {
+
+    public static final String MESSAGE_OUT_OF_RANGE = "Journal edit does not fit the person list it is applied to.";
+
+    private final int at;
+    private final int removed;
+    private final List<JsonAdaptedPerson> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonListEdit} with the given edit details.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonListEdit(@JsonProperty("at") int at, @JsonProperty("removed") int removed,
+            @JsonProperty("added") List<JsonAdaptedPerson> added) {
+        this.at = at;
+        this.removed = removed;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Applies this edit to {@code persons}.
+     *
+     * @throws IllegalValueException if an added person is invalid or the edit does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (at < 0 || removed < 0 || at > persons.size() - removed) {
+            throw new IllegalValueException(MESSAGE_OUT_OF_RANGE);
+        }
+
+        List<Person> addedPersons = new ArrayList<>(added.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : added) {
+            addedPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        List<Person> range = persons.subList(at, at + removed);
+        range.clear();
+        range.addAll(addedPersons);
+    }
+}
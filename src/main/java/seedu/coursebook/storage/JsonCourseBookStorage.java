@@ -1,80 +1,114 @@
 package seedu.coursebook.storage;
 
-import static java.util.Objects.requireNonNull;
-
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
-import java.util.Optional;
-import java.util.logging.Logger;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
-import seedu.coursebook.commons.core.LogsCenter;
-import seedu.coursebook.commons.exceptions.DataLoadingException;
 import seedu.coursebook.commons.exceptions.IllegalValueException;
-import seedu.coursebook.commons.util.FileUtil;
 import seedu.coursebook.commons.util.JsonUtil;
 import seedu.coursebook.model.ReadOnlyCourseBook;
+import seedu.coursebook.model.person.Person;
 
 /**
  * A class to access CourseBook data stored as a json file on the hard disk.
+ * Persons are streamed to and from the file one at a time, so the file is never held in memory as a whole.
+ * The JSON of each person saved is cached, so a save only serialises the persons added or edited since the last one.
  */
-public class JsonCourseBookStorage implements CourseBookStorage {
+public class JsonCourseBookStorage extends FileCourseBookStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonCourseBookStorage.class);
+    static final String PERSONS_FIELD = "persons";
 
-    private Path filePath;
+    private final boolean isCompact;
+    private final SerializedPersonCache personCache;
 
     public JsonCourseBookStorage(Path filePath) {
-        this.filePath = filePath;
+        this(filePath, false);
     }
 
-    public Path getCourseBookFilePath() {
-        return filePath;
+    public JsonCourseBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, 0);
     }
 
-    @Override
-    public Optional<ReadOnlyCourseBook> readCourseBook() throws DataLoadingException {
-        return readCourseBook(filePath);
+    public JsonCourseBookStorage(Path filePath, boolean isCompact, int backupCount) {
+        this(filePath, isCompact, backupCount, 0);
     }
 
     /**
-     * Similar to {@link #readCourseBook()}.
+     * Creates a storage for the file at {@code filePath}.
      *
-     * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @param isCompact whether the file is written without indentation, which makes it smaller and faster to write.
+     * @param backupCount number of previous generations of the file to keep as backups.
+     * @param compressionLevel gzip compression level of the file from 1 to 9, or 0 if it is not compressed.
      */
-    public Optional<ReadOnlyCourseBook> readCourseBook(Path filePath) throws DataLoadingException {
-        requireNonNull(filePath);
+    public JsonCourseBookStorage(Path filePath, boolean isCompact, int backupCount, int compressionLevel) {
+        super(filePath, backupCount, compressionLevel);
+        this.isCompact = isCompact;
+        this.personCache = new SerializedPersonCache(!isCompact);
+    }
 
-        Optional<JsonSerializableCourseBook> jsonCourseBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableCourseBook.class);
-        if (!jsonCourseBook.isPresent()) {
-            return Optional.empty();
+    /**
+     * Reads the persons of the JSON course book in {@code in}, converting them to {@code Person}s in parallel with
+     * {@link ParallelPersonConverter} while the rest are read. Fields other than the persons are skipped.
+     *
+     * @throws IllegalValueException listing every invalid person in the file.
+     */
+    static List<Person> readPersons(InputStream in) throws IOException, IllegalValueException {
+        JsonParser parser = JsonUtil.createParser(in);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected the course book to be a JSON object");
         }
 
-        try {
-            return Optional.of(jsonCourseBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new IOException("Expected \"" + PERSONS_FIELD + "\" to be a JSON array");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                converter.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+            }
         }
-    }
-
-    @Override
-    public void saveCourseBook(ReadOnlyCourseBook courseBook) throws IOException {
-        saveCourseBook(courseBook, filePath);
+        return converter.getPersons();
     }
 
     /**
-     * Similar to {@link #saveCourseBook(ReadOnlyCourseBook)}.
-     *
-     * @param filePath location of the data. Cannot be null.
+     * Writes {@code courseBook} as JSON to {@code out}, reusing the JSON cached for each person that was also in the
+     * previous save, so that only the persons added or edited since then are serialised.
      */
-    public void saveCourseBook(ReadOnlyCourseBook courseBook, Path filePath) throws IOException {
-        requireNonNull(courseBook);
-        requireNonNull(filePath);
+    @Override
+    protected synchronized void writeCourseBook(ReadOnlyCourseBook courseBook, OutputStream out) throws IOException {
+        List<Person> persons = courseBook.getPersonList();
+        personCache.beginSave();
+
+        // Not closed, as that would close the file before it is forced to disk. Its flushes only empty its buffer into
+        // out, which it shares with the cached JSON written straight to out.
+        JsonGenerator generator = JsonUtil.createGenerator(out, !isCompact)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : persons) {
+            byte[] json = personCache.get(person);
+            // An empty raw value writes just the separator before the person
+            generator.writeRawValue("");
+            generator.flush();
+            out.write(json);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableCourseBook(courseBook), filePath);
+        personCache.endSave(persons.size());
     }
 
 }
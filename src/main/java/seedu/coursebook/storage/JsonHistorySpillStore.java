@@ -0,0 +1,151 @@
+package seedu.coursebook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.coursebook.commons.core.LogsCenter;
+import seedu.coursebook.commons.exceptions.IllegalValueException;
+import seedu.coursebook.commons.util.JsonUtil;
+import seedu.coursebook.model.HistorySpillStore;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * A {@code HistorySpillStore} that appends each spilled person list as a gzip-compressed JSON record to a temporary
+ * file in the same directory as the data file. The file is created on the first spill and deleted when the store is
+ * closed or the application exits. Records may be written on one thread while others are read on another.
+ */
+public class JsonHistorySpillStore implements HistorySpillStore {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonHistorySpillStore.class);
+    private static final int LENGTH_PREFIX_BYTES = Integer.BYTES;
+
+    private final Path directory;
+    private Path spillFilePath;
+    private FileChannel channel;
+    private long size;
+
+    /**
+     * Creates a store that keeps its temporary file next to {@code courseBookFilePath}.
+     */
+    public JsonHistorySpillStore(Path courseBookFilePath) {
+        requireNonNull(courseBookFilePath);
+        this.directory = courseBookFilePath.toAbsolutePath().getParent();
+    }
+
+    /**
+     * Returns the temporary file the store writes to, or null if nothing has been spilled yet.
+     */
+    public synchronized Path getSpillFilePath() {
+        return spillFilePath;
+    }
+
+    @Override
+    public long spill(List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        byte[] record = compress(JsonUtil.toJsonString(new JsonSerializableCourseBook(
+                persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()))));
+        return append(record);
+    }
+
+    private synchronized long append(byte[] record) throws IOException {
+        FileChannel spillFile = openChannel();
+        long position = size;
+        ByteBuffer buffer = ByteBuffer.allocate(LENGTH_PREFIX_BYTES + record.length);
+        buffer.putInt(record.length).put(record).flip();
+        while (buffer.hasRemaining()) {
+            spillFile.write(buffer, position + buffer.position());
+        }
+        size += LENGTH_PREFIX_BYTES + record.length;
+        return position;
+    }
+
+    @Override
+    public synchronized List<Person> reload(long position) throws IOException {
+        if (channel == null || position < 0 || position + LENGTH_PREFIX_BYTES > size) {
+            throw new IOException("No spilled record at position " + position);
+        }
+        ByteBuffer lengthBuffer = readFully(position, LENGTH_PREFIX_BYTES);
+        int length = lengthBuffer.getInt();
+        if (length < 0 || position + LENGTH_PREFIX_BYTES + length > size) {
+            throw new IOException("Corrupted spilled record at position " + position);
+        }
+        byte[] record = readFully(position + LENGTH_PREFIX_BYTES, length).array();
+
+        try {
+            JsonSerializableCourseBook courseBook =
+                    JsonUtil.fromJsonString(decompress(record), JsonSerializableCourseBook.class);
+            return new ArrayList<>(courseBook.toModelType().getPersonList());
+        } catch (IllegalValueException ive) {
+            throw new IOException("Invalid spilled record at position " + position, ive);
+        }
+    }
+
+    @Override
+    public synchronized long size() {
+        return size;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        channel.close();
+        channel = null;
+        Files.deleteIfExists(spillFilePath);
+        size = 0;
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null) {
+            Files.createDirectories(directory);
+            spillFilePath = Files.createTempFile(directory, "CourseBook-undo-", ".tmp");
+            spillFilePath.toFile().deleteOnExit();
+            channel = FileChannel.open(spillFilePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            logger.info("Spilling undo history to " + spillFilePath);
+        }
+        return channel;
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of spill file at position " + position);
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static byte[] compress(String json) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String decompress(byte[] record) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(record))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -11,7 +11,9 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.coursebook.commons.exceptions.IllegalValueException;
 import seedu.coursebook.model.CourseBook;
 import seedu.coursebook.model.ReadOnlyCourseBook;
+import seedu.coursebook.model.person.IdentityConflict;
 import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable CourseBook that is serializable to JSON format.
@@ -42,17 +44,29 @@ class JsonSerializableCourseBook {
 
     /**
      * Converts this address book into the model's {@code CourseBook} object.
+     * Persons are converted in parallel, and all invalid persons, or all duplicate persons, are reported together.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public CourseBook toModelType() throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        persons.forEach(converter::add);
+        return toCourseBook(converter.getPersons());
+    }
+
+    /**
+     * Returns a {@code CourseBook} holding {@code modelPersons}, which were read from a data file.
+     *
+     * @throws IllegalValueException if {@code modelPersons} contains duplicate persons.
+     */
+    static CourseBook toCourseBook(List<Person> modelPersons) throws IllegalValueException {
         CourseBook courseBook = new CourseBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (courseBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            courseBook.addPerson(person);
+        try {
+            courseBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON + "\n" + dpe.getConflicts().stream()
+                    .map(IdentityConflict::toString)
+                    .collect(Collectors.joining("\n")), dpe);
         }
         return courseBook;
     }
@@ -0,0 +1,69 @@
+package seedu.coursebook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.coursebook.commons.exceptions.IllegalValueException;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * Jackson-friendly version of one shard of a sharded course book.
+ * Each person of the shard is stored with its position in the course book, which orders the persons of all the shards
+ * when they are merged back together.
+ */
+class JsonSerializableShard {
+
+    public static final String MESSAGE_MISMATCHED_POSITIONS = "Shard does not have one position for each person.";
+
+    private final List<Long> positions = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShard} with the given persons and their positions.
+     */
+    @JsonCreator
+    public JsonSerializableShard(@JsonProperty("positions") List<Long> positions,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (positions != null) {
+            this.positions.addAll(positions);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts {@code persons}, at the given {@code positions}, into this class for Jackson use.
+     */
+    public static JsonSerializableShard fromModelType(List<Long> positions, List<Person> persons) {
+        return new JsonSerializableShard(positions,
+                persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the positions of the persons of this shard, in the same order as the persons.
+     *
+     * @throws IllegalValueException if there is not exactly one position for each person.
+     */
+    public List<Long> getPositions() throws IllegalValueException {
+        if (positions.size() != persons.size() || positions.contains(null)) {
+            throw new IllegalValueException(MESSAGE_MISMATCHED_POSITIONS);
+        }
+        return positions;
+    }
+
+    /**
+     * Converts the persons of this shard into the model's {@code Person} objects.
+     *
+     * @throws IllegalValueException listing every invalid person of the shard.
+     */
+    public List<Person> toModelType() throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        persons.forEach(converter::add);
+        return converter.getPersons();
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.coursebook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a sharded course book, which names the shard files that make up the
+ * course book. Shard files not named by the manifest are left over from earlier saves and are not read.
+ */
+class JsonSerializableShardManifest {
+
+    private final long generation;
+    private final List<String> shards = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableShardManifest} with the given shard files.
+     *
+     * @param generation number of the save that wrote this manifest, which is in the names of the shards it wrote.
+     */
+    @JsonCreator
+    public JsonSerializableShardManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("shards") List<String> shards) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.addAll(shards);
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the names of the shard files, relative to the directory of the manifest.
+     */
+    public List<String> getShards() {
+        return shards;
+    }
+}
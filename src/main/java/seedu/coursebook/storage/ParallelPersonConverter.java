@@ -0,0 +1,103 @@
+package seedu.coursebook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.coursebook.commons.exceptions.IllegalValueException;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * Converts the {@code JsonAdaptedPerson}s read from a data file to {@code Person}s on the common fork-join pool.
+ * Persons are converted in chunks, each submitted as soon as it is full, so that validating the persons read so far
+ * overlaps with reading the rest of the file. On a single processor, each chunk is converted as soon as it is full
+ * instead. The converted persons are returned in the order they were added.
+ * <p>
+ * Every invalid person is reported together with its position in the file, rather than only the first.
+ */
+class ParallelPersonConverter {
+
+    public static final String MESSAGE_INVALID_PERSON = "Persons list contains invalid person(s).";
+
+    /** Number of persons converted by each task, which is large enough to outweigh the cost of submitting it. */
+    static final int CHUNK_SIZE = 1024;
+
+    private final List<ForkJoinTask<Chunk>> chunks = new ArrayList<>();
+    private List<JsonAdaptedPerson> pending = new ArrayList<>(CHUNK_SIZE);
+    private int personCount = 0;
+
+    /**
+     * Adds {@code person} as the next person of the file, converting it in the background once its chunk is full.
+     */
+    void add(JsonAdaptedPerson person) {
+        pending.add(person);
+        personCount++;
+        if (pending.size() == CHUNK_SIZE) {
+            submitPending();
+        }
+    }
+
+    /**
+     * Waits for every person added to be converted, and returns them in the order they were added.
+     *
+     * @throws IllegalValueException listing every invalid person, numbered from 1 in the order they were added.
+     */
+    List<Person> getPersons() throws IllegalValueException {
+        submitPending();
+
+        List<Person> persons = new ArrayList<>(personCount);
+        List<String> errors = new ArrayList<>();
+        for (ForkJoinTask<Chunk> task : chunks) {
+            Chunk chunk = task.join();
+            persons.addAll(chunk.persons);
+            errors.addAll(chunk.errors);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(MESSAGE_INVALID_PERSON + "\n" + String.join("\n", errors));
+        }
+        return persons;
+    }
+
+    private void submitPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<JsonAdaptedPerson> chunk = pending;
+        int firstIndex = personCount - chunk.size();
+        ForkJoinTask<Chunk> task = ForkJoinTask.adapt(() -> convert(chunk, firstIndex));
+        if (ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().execute(task);
+        } else {
+            // Handing chunks to a single worker would only add overhead, so they are converted as they are read
+            task.invoke();
+        }
+        chunks.add(task);
+        pending = new ArrayList<>(CHUNK_SIZE);
+    }
+
+    private static Chunk convert(List<JsonAdaptedPerson> adaptedPersons, int firstIndex) {
+        Chunk chunk = new Chunk(adaptedPersons.size());
+        for (int i = 0; i < adaptedPersons.size(); i++) {
+            try {
+                chunk.persons.add(adaptedPersons.get(i).toModelType());
+            } catch (IllegalValueException ive) {
+                chunk.errors.add("Person " + (firstIndex + i + 1) + ": " + ive.getMessage());
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * The valid persons of a chunk, and the errors of its invalid ones.
+     */
+    private static class Chunk {
+        private final List<Person> persons;
+        private final List<String> errors = new ArrayList<>();
+
+        Chunk(int size) {
+            persons = new ArrayList<>(size);
+        }
+    }
+}
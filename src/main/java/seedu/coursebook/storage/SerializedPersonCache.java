@@ -0,0 +1,99 @@
+package seedu.coursebook.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.coursebook.commons.util.JsonUtil;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * Caches the JSON written for each person of a data file, keyed by the identity of the {@code Person}, so that a save
+ * only serialises the persons added or edited since the previous save. As persons are immutable, the JSON of an
+ * instance never changes, and an edit replaces the instance rather than changing it.
+ * <p>
+ * The JSON is cached exactly as it appears inside the persons array of the file, without the separator before it,
+ * so that concatenating the cached JSON gives the same file as serialising every person again.
+ */
+class SerializedPersonCache {
+
+    private final boolean isPrettyPrinted;
+    private final Map<Person, Entry> entries = new IdentityHashMap<>();
+    private final ByteArrayOutputStream scratch = new ByteArrayOutputStream();
+    private JsonGenerator scratchGenerator;
+    private int saveCount = 0;
+
+    SerializedPersonCache(boolean isPrettyPrinted) {
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Starts a save, after which {@link #get} is called for each person saved.
+     */
+    void beginSave() {
+        saveCount++;
+    }
+
+    /**
+     * Returns the JSON of {@code person}, serialising it only if it was not part of the previous save.
+     */
+    byte[] get(Person person) throws IOException {
+        Entry entry = entries.get(person);
+        if (entry == null) {
+            entry = new Entry(serialize(person));
+            entries.put(person, entry);
+        }
+        entry.lastSave = saveCount;
+        return entry.json;
+    }
+
+    /**
+     * Ends a save of {@code personCount} persons, dropping the JSON of the persons that are no longer saved.
+     */
+    void endSave(int personCount) {
+        scratchGenerator = null;
+        if (entries.size() > personCount) {
+            entries.values().removeIf(entry -> entry.lastSave != saveCount);
+        }
+    }
+
+    /**
+     * Serialises {@code person} as the next element of a persons array, so that it is indented as it is in the file.
+     */
+    private byte[] serialize(Person person) throws IOException {
+        if (scratchGenerator == null) {
+            scratch.reset();
+            scratchGenerator = JsonUtil.createGenerator(scratch, isPrettyPrinted);
+            scratchGenerator.writeStartObject();
+            scratchGenerator.writeArrayFieldStart(JsonCourseBookStorage.PERSONS_FIELD);
+        }
+        scratchGenerator.flush();
+        scratch.reset();
+        JsonUtil.writeValue(scratchGenerator, new JsonAdaptedPerson(person));
+        scratchGenerator.flush();
+
+        // Drop the separator written before the person, which the array it is written into adds itself
+        byte[] element = scratch.toByteArray();
+        int start = 0;
+        while (element[start] != '{') {
+            start++;
+        }
+        return Arrays.copyOfRange(element, start, element.length);
+    }
+
+    /**
+     * The JSON of a person, and the save it was last written by.
+     */
+    private static class Entry {
+        private final byte[] json;
+        private int lastSave;
+
+        Entry(byte[] json) {
+            this.json = json;
+        }
+    }
+}
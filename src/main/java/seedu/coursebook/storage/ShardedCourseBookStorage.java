@@ -0,0 +1,430 @@
+package seedu.coursebook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+
+import seedu.coursebook.commons.core.LogsCenter;
+import seedu.coursebook.commons.exceptions.DataLoadingException;
+import seedu.coursebook.commons.exceptions.IllegalValueException;
+import seedu.coursebook.commons.util.JsonUtil;
+import seedu.coursebook.model.CourseBook;
+import seedu.coursebook.model.ReadOnlyCourseBook;
+import seedu.coursebook.model.person.Person;
+
+/**
+ * A {@code CourseBookStorage} that keeps the course book in a directory of JSON shard files, one for each course and
+ * one for the persons without courses, so that a save only rewrites the shards of the persons it changed.
+ * Each person is kept in the shard of the first of its course codes in alphabetical order, together with its position
+ * in the course book, so the shards can be read in parallel and merged back in the original order.
+ * <p>
+ * A manifest in the directory names the shard files that make up the course book. Each save writes its changed shards
+ * to new files and then replaces the manifest, so a crash part way through a save leaves the previous manifest and
+ * every shard file it names as they were.
+ */
+public class ShardedCourseBookStorage implements CourseBookStorage {
+
+    /** Suffix added to the data file's name to get the name of its shard directory. */
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    /** Name of the manifest in the shard directory. */
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    /** Name of the shard of the persons without courses, which cannot be a course code as those have no underscores. */
+    static final String NO_COURSE_SHARD = "_none";
+    /** Gap between the positions of consecutive persons, which leaves room to insert persons between them. */
+    static final long POSITION_GAP = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedCourseBookStorage.class);
+    private static final String SHARD_FILE_SUFFIX = ".json";
+
+    private final Path filePath;
+    private final Path directory;
+    private SavedState savedState;
+
+    /**
+     * Creates a storage that keeps the data file at {@code filePath} as shards in a directory next to it.
+     * The data file itself is only read when the directory has no manifest yet.
+     */
+    public ShardedCourseBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.directory = getShardDirectoryPath(filePath);
+    }
+
+    /**
+     * Returns the path of the shard directory kept for the data file at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getCourseBookFilePath() {
+        return directory;
+    }
+
+    /**
+     * Reads the shards in the shard directory. If the directory has no manifest, the unsharded data file is read
+     * instead, which the next save splits into shards.
+     */
+    @Override
+    public Optional<ReadOnlyCourseBook> readCourseBook() throws DataLoadingException {
+        return readCourseBook(directory);
+    }
+
+    /**
+     * Reads the shards named by the manifest in {@code directory} in parallel, and merges their persons in order.
+     * If {@code directory} is this storage's shard directory and has no manifest yet, the unsharded data file is read
+     * instead.
+     *
+     * @param directory location of the shard directory. Cannot be null.
+     * @throws DataLoadingException if the manifest or any shard cannot be loaded.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyCourseBook> readCourseBook(Path directory) throws DataLoadingException {
+        requireNonNull(directory);
+
+        Optional<JsonSerializableShardManifest> manifest =
+                JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE_NAME), JsonSerializableShardManifest.class);
+        if (manifest.isEmpty()) {
+            if (!directory.equals(this.directory)) {
+                return Optional.empty();
+            }
+            savedState = null;
+            return new JsonCourseBookStorage(filePath).readCourseBook();
+        }
+
+        List<ForkJoinTask<LoadedShard>> tasks = new ArrayList<>();
+        for (String shardFileName : manifest.get().getShards()) {
+            tasks.add(ForkJoinPool.commonPool().submit(() -> readShard(directory, shardFileName)));
+        }
+        List<LoadedShard> shards = new ArrayList<>();
+        for (ForkJoinTask<LoadedShard> task : tasks) {
+            shards.add(joinShard(task));
+        }
+
+        List<PositionedPerson> positionedPersons = new ArrayList<>();
+        for (LoadedShard shard : shards) {
+            for (int i = 0; i < shard.persons.size(); i++) {
+                positionedPersons.add(new PositionedPerson(shard.positions.get(i), shard.persons.get(i)));
+            }
+        }
+        positionedPersons.sort(Comparator.comparingLong(positionedPerson -> positionedPerson.position));
+        List<Person> persons = new ArrayList<>(positionedPersons.size());
+        positionedPersons.forEach(positionedPerson -> persons.add(positionedPerson.person));
+
+        CourseBook courseBook;
+        try {
+            courseBook = JsonSerializableCourseBook.toCourseBook(persons);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (directory.equals(this.directory)) {
+            savedState = new SavedState(manifest.get().getGeneration());
+            for (LoadedShard shard : shards) {
+                savedState.shards.put(shard.key, new SavedShard(shard.fileName, shard.persons));
+            }
+            positionedPersons.forEach(positionedPerson ->
+                    savedState.positions.put(positionedPerson.person, positionedPerson.position));
+        }
+        return Optional.of(courseBook);
+    }
+
+    private static LoadedShard readShard(Path directory, String shardFileName) throws DataLoadingException {
+        Path shardPath = directory.resolve(shardFileName);
+        JsonSerializableShard shard = JsonUtil.readJsonFile(shardPath, JsonSerializableShard.class)
+                .orElseThrow(() -> new DataLoadingException(new IOException("Missing shard " + shardPath)));
+        try {
+            return new LoadedShard(shardFileName, shard.getPositions(), shard.toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + shardPath + ": " + ive.getMessage());
+            throw new DataLoadingException(new IllegalValueException(shardFileName + ": " + ive.getMessage(), ive));
+        }
+    }
+
+    private static LoadedShard joinShard(ForkJoinTask<LoadedShard> task) throws DataLoadingException {
+        try {
+            return task.get();
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) ee.getCause();
+            }
+            throw new DataLoadingException(new IOException(ee.getCause()));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(new IOException(ie));
+        }
+    }
+
+    @Override
+    public void saveCourseBook(ReadOnlyCourseBook courseBook) throws IOException {
+        saveCourseBook(courseBook, directory);
+    }
+
+    /**
+     * Saves {@code courseBook} as shards in {@code directory}. Only the shards whose persons changed since the
+     * previous save to this storage's directory are rewritten, and the manifest only if any shard was.
+     *
+     * @param directory location of the shard directory. Cannot be null.
+     */
+    @Override
+    public synchronized void saveCourseBook(ReadOnlyCourseBook courseBook, Path directory) throws IOException {
+        requireNonNull(courseBook);
+        requireNonNull(directory);
+
+        SavedState previous = directory.equals(this.directory) ? savedState : null;
+        List<Person> persons = courseBook.getPersonList();
+        long[] positions = assignPositions(persons, previous == null ? null : previous.positions);
+        boolean isRenumbered = previous == null || positions == null;
+        if (positions == null) {
+            positions = numberFromStart(persons.size());
+        }
+
+        // Shards are kept in order of their keys, so the manifest lists them in the same order every time
+        Map<String, List<Person>> shardPersons = new TreeMap<>();
+        Map<String, List<Long>> shardPositions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            String key = getShardKey(persons.get(i));
+            shardPersons.computeIfAbsent(key, k -> new ArrayList<>()).add(persons.get(i));
+            shardPositions.computeIfAbsent(key, k -> new ArrayList<>()).add(positions[i]);
+        }
+
+        long generation = previous == null ? findLatestGeneration(directory) + 1 : previous.generation + 1;
+        SavedState saved = new SavedState(generation);
+        boolean isChanged = isRenumbered || previous.shards.size() != shardPersons.size();
+        for (Map.Entry<String, List<Person>> shard : shardPersons.entrySet()) {
+            String key = shard.getKey();
+            SavedShard previousShard = isRenumbered ? null : previous.shards.get(key);
+            if (previousShard != null && isSamePersons(previousShard.persons, shard.getValue())) {
+                saved.shards.put(key, previousShard);
+                continue;
+            }
+            String shardFileName = key + "." + generation + SHARD_FILE_SUFFIX;
+            JsonUtil.saveJsonFile(JsonSerializableShard.fromModelType(shardPositions.get(key), shard.getValue()),
+                    directory.resolve(shardFileName));
+            saved.shards.put(key, new SavedShard(shardFileName, shard.getValue()));
+            isChanged = true;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            saved.positions.put(persons.get(i), positions[i]);
+        }
+
+        if (isChanged) {
+            List<String> shardFileNames = new ArrayList<>();
+            saved.shards.values().forEach(shard -> shardFileNames.add(shard.fileName));
+            JsonUtil.saveJsonFile(new JsonSerializableShardManifest(generation, shardFileNames),
+                    directory.resolve(MANIFEST_FILE_NAME));
+            deleteUnlistedShards(directory, shardFileNames);
+        } else {
+            saved = new SavedState(previous.generation, saved);
+        }
+        if (directory.equals(this.directory)) {
+            savedState = saved;
+        }
+    }
+
+    /**
+     * Returns the key of the shard {@code person} is kept in, which is the first of its course codes in alphabetical
+     * order, or {@link #NO_COURSE_SHARD} if it has no courses.
+     */
+    static String getShardKey(Person person) {
+        return person.getCourses().stream()
+                .map(course -> course.courseCode)
+                .min(Comparator.naturalOrder())
+                .orElse(NO_COURSE_SHARD);
+    }
+
+    /**
+     * Returns the positions of {@code persons}, keeping the positions in {@code previousPositions} of the persons saved
+     * before and spreading the other persons out between them. Returns null if the persons saved before are no longer
+     * in order, or there is no room between them, in which case every person must be given a new position.
+     */
+    static long[] assignPositions(List<Person> persons, Map<Person, Long> previousPositions) {
+        if (previousPositions == null) {
+            return null;
+        }
+
+        long[] positions = new long[persons.size()];
+        long last = 0;
+        int i = 0;
+        while (i < persons.size()) {
+            Long known = previousPositions.get(persons.get(i));
+            if (known != null) {
+                if (known <= last) {
+                    return null;
+                }
+                positions[i++] = known;
+                last = known;
+                continue;
+            }
+
+            // Spread the run of new persons evenly between the positions before and after it
+            int end = i;
+            while (end < persons.size() && !previousPositions.containsKey(persons.get(end))) {
+                end++;
+            }
+            long next = end < persons.size()
+                    ? previousPositions.get(persons.get(end))
+                    : last + (end - i + 1) * POSITION_GAP;
+            long step = (next - last) / (end - i + 1);
+            if (step <= 0) {
+                return null;
+            }
+            for (; i < end; i++) {
+                last += step;
+                positions[i] = last;
+            }
+        }
+        return positions;
+    }
+
+    private static long[] numberFromStart(int count) {
+        long[] positions = new long[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = (i + 1) * POSITION_GAP;
+        }
+        return positions;
+    }
+
+    private static boolean isSamePersons(List<Person> saved, List<Person> current) {
+        if (saved.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the latest generation of the shard files in {@code directory}, or 0 if it has none, so that a save that
+     * does not know which shards are in the directory never overwrites one that the manifest names.
+     */
+    private static long findLatestGeneration(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        long latest = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SHARD_FILE_SUFFIX)) {
+            for (Path file : files) {
+                latest = Math.max(latest, getGeneration(file.getFileName().toString()));
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Returns the generation in the name of the shard file {@code fileName}, or 0 if it is not a shard file.
+     */
+    private static long getGeneration(String fileName) {
+        String[] parts = fileName.split("\\.");
+        if (parts.length != 3) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(parts[1]);
+        } catch (NumberFormatException nfe) {
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes the shard files in {@code directory} that are not in {@code shardFileNames}, which are left over from
+     * earlier saves. Files that cannot be deleted are left for a later save.
+     */
+    private static void deleteUnlistedShards(Path directory, List<String> shardFileNames) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SHARD_FILE_SUFFIX)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (getGeneration(fileName) > 0 && !shardFileNames.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not delete old shards in " + directory + ": " + ioe);
+        }
+    }
+
+    /**
+     * The persons of a shard read from its file, with their positions in the course book.
+     */
+    private static class LoadedShard {
+        private final String key;
+        private final String fileName;
+        private final List<Long> positions;
+        private final List<Person> persons;
+
+        LoadedShard(String fileName, List<Long> positions, List<Person> persons) {
+            this.key = fileName.substring(0, fileName.indexOf('.'));
+            this.fileName = fileName;
+            this.positions = positions;
+            this.persons = persons;
+        }
+    }
+
+    /**
+     * A person and its position in the course book.
+     */
+    private static class PositionedPerson {
+        private final long position;
+        private final Person person;
+
+        PositionedPerson(long position, Person person) {
+            this.position = position;
+            this.person = person;
+        }
+    }
+
+    /**
+     * The file of a shard as last saved or read, and the persons in it.
+     */
+    private static class SavedShard {
+        private final String fileName;
+        private final List<Person> persons;
+
+        SavedShard(String fileName, List<Person> persons) {
+            this.fileName = fileName;
+            this.persons = persons;
+        }
+    }
+
+    /**
+     * What was last saved to or read from the shard directory. Persons are compared by identity, as each edit replaces
+     * the edited {@code Person}.
+     */
+    private static class SavedState {
+        private final long generation;
+        private final Map<String, SavedShard> shards;
+        private final Map<Person, Long> positions;
+
+        SavedState(long generation) {
+            this.generation = generation;
+            this.shards = new TreeMap<>();
+            this.positions = new IdentityHashMap<>();
+        }
+
+        SavedState(long generation, SavedState state) {
+            this.generation = generation;
+            this.shards = state.shards;
+            this.positions = state.positions;
+        }
+    }
+}
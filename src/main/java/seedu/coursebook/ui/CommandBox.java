@@ -20,6 +20,7 @@ public class CommandBox extends UiPart<Region> {
 
     private final CommandExecutor commandExecutor;
     private final Logic logic;
+    private final LiveFindFilter liveFindFilter;
 
     // History navigation state
     private int historyIndex = -1; // -1 means not currently navigating history
@@ -32,11 +33,23 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code Logic}.
      */
     public CommandBox(CommandExecutor commandExecutor, Logic logic) {
+        this(commandExecutor, logic, null);
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code Logic}, which narrows the person
+     * list down with {@code liveFindFilter} as a {@code find} command is typed, unless it is null.
+     */
+    public CommandBox(CommandExecutor commandExecutor, Logic logic, LiveFindFilter liveFindFilter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
         this.logic = logic;
+        this.liveFindFilter = liveFindFilter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        if (liveFindFilter != null) {
+            commandTextField.textProperty().addListener((unused1, unused2, newText) -> liveFindFilter.update(newText));
+        }
         setupKeyPressHandler();
     }
 
@@ -67,6 +80,10 @@ public class CommandBox extends UiPart<Region> {
 
         try {
             commandExecutor.execute(commandText);
+            if (liveFindFilter != null) {
+                // The command has set the person list, which clearing the text must not show in full again
+                liveFindFilter.reset();
+            }
             commandTextField.setText("");
             resetHistoryNavigation(); // Reset history navigation after command execution
         } catch (CommandException | ParseException e) {
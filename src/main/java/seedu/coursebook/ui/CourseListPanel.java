@@ -1,8 +1,8 @@
 package seedu.coursebook.ui;
 
+import java.util.function.ToIntFunction;
 import java.util.logging.Logger;
 
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -10,7 +10,6 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.coursebook.commons.core.LogsCenter;
 import seedu.coursebook.model.course.Course;
-import seedu.coursebook.model.person.Person;
 
 /**
  * Panel containing the list of courses.
@@ -22,37 +21,18 @@ public class CourseListPanel extends UiPart<Region> {
     @FXML
     private ListView<Course> courseListView;
 
-    private ObservableList<Person> personList;
+    private final ToIntFunction<Course> studentCounter;
 
     /**
      * Creates a {@code CourseListPanel} with the given {@code ObservableList}.
+     * The cards show the student count given by {@code studentCounter}. A course is replaced in
+     * {@code courseList} whenever its count changes, which redraws only its card.
      */
-    public CourseListPanel(ObservableList<Course> courseList, ObservableList<Person> personList) {
+    public CourseListPanel(ObservableList<Course> courseList, ToIntFunction<Course> studentCounter) {
         super(FXML);
-        this.personList = personList;
+        this.studentCounter = studentCounter;
         courseListView.setItems(courseList);
         courseListView.setCellFactory(listView -> new CourseListViewCell());
-
-        // Add listener to personList to refresh course cards when persons change
-        personList.addListener((ListChangeListener<Person>) change -> {
-            logger.fine("Person list changed, refreshing course list view");
-            courseListView.refresh();
-        });
-
-        // Also add listener to courseList to handle course additions/removals
-        courseList.addListener((ListChangeListener<Course>) change -> {
-            logger.fine("Course list changed, refreshing course list view");
-            courseListView.refresh();
-        });
-    }
-
-    /**
-     * Counts the number of students enrolled in a specific course.
-     */
-    private int getStudentCount(Course course) {
-        return (int) personList.stream()
-                .filter(person -> person.getCourses().contains(course))
-                .count();
     }
 
     /**
@@ -67,7 +47,7 @@ public class CourseListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                int studentCount = getStudentCount(course);
+                int studentCount = studentCounter.applyAsInt(course);
                 setGraphic(new CourseCard(course, getIndex() + 1, studentCount).getRoot());
             }
         }
@@ -0,0 +1,233 @@
+package seedu.coursebook.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import seedu.coursebook.commons.core.LogsCenter;
+import seedu.coursebook.logic.Logic;
+import seedu.coursebook.model.Model;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * Narrows the person list down as a {@code find} command is typed, before it is entered.
+ * <p>
+ * Each change of the command text is debounced, and then matched against a snapshot of the persons on a background
+ * thread. A change made before the previous one is matched cancels it. When the command only typed a keyword further,
+ * its matches are a subset of the previous matches, so only those are tested again. Only the final matches are shown,
+ * by setting the filter of the person list once on the JavaFX application thread.
+ * <p>
+ * The time from each change of the command text to the first frame showing its matches is recorded.
+ */
+public class LiveFindFilter {
+
+    public static final long DEBOUNCE_MILLIS = 80;
+
+    /** Number of persons matched between checks for cancellation. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(LiveFindFilter.class);
+
+    private final Logic logic;
+    private final long debounceMillis;
+    private final Executor fxThread;
+    private final Consumer<Runnable> nextFrame;
+    private final Runnable onFilterShown;
+    private final ScheduledExecutorService matcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "CourseBook-live-find");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only used on the JavaFX application thread
+    private String latestText = "";
+    private long latestRequest = 0;
+    private int courseBookVersion = 0;
+    private ScheduledFuture<?> pendingMatch;
+    private boolean isFilterShown = false;
+    private long lastLatencyNanos = -1;
+
+    // Only used on the matcher thread
+    private Matches previousMatches;
+
+    /**
+     * Creates a filter of the person list of {@code logic} that shows its matches on the JavaFX application thread.
+     * {@code onFilterShown} is run whenever matches are shown.
+     */
+    public LiveFindFilter(Logic logic, Runnable onFilterShown) {
+        this(logic, DEBOUNCE_MILLIS, Platform::runLater, LiveFindFilter::runOnNextFrame, onFilterShown);
+    }
+
+    /**
+     * Creates a filter of the person list of {@code logic} that matches a change of the command text once no other
+     * change follows within {@code debounceMillis}, shows its matches by running them on {@code fxThread}, and records
+     * the frame that shows them by running a callback given to {@code nextFrame}.
+     */
+    LiveFindFilter(Logic logic, long debounceMillis, Executor fxThread, Consumer<Runnable> nextFrame,
+            Runnable onFilterShown) {
+        requireNonNull(logic);
+        requireNonNull(fxThread);
+        requireNonNull(nextFrame);
+        requireNonNull(onFilterShown);
+        this.logic = logic;
+        this.debounceMillis = debounceMillis;
+        this.fxThread = fxThread;
+        this.nextFrame = nextFrame;
+        this.onFilterShown = onFilterShown;
+        logic.getCourseBook().addListener(unused -> courseBookVersion++);
+    }
+
+    /**
+     * Schedules the persons to be narrowed down to the matches of {@code commandText}, if it is a valid {@code find}
+     * command, cancelling any earlier change that is not shown yet. If {@code commandText} is blank, every person is
+     * shown again. Any other command leaves the person list as it is.
+     * Must be called on the JavaFX application thread.
+     */
+    public void update(String commandText) {
+        requireNonNull(commandText);
+        schedule(commandText, System.nanoTime());
+    }
+
+    /**
+     * Cancels any change that is not shown yet, and forgets the matches shown, so that the next blank command text
+     * does not show every person again. Called once a command is entered, as it sets the person list itself.
+     * Must be called on the JavaFX application thread.
+     */
+    public void reset() {
+        cancelPendingMatch();
+        latestRequest++;
+        isFilterShown = false;
+    }
+
+    /**
+     * Returns the time from the last change of the command text that was shown to the first frame showing it.
+     */
+    public OptionalLong getLastLatencyNanos() {
+        return lastLatencyNanos < 0 ? OptionalLong.empty() : OptionalLong.of(lastLatencyNanos);
+    }
+
+    private void schedule(String commandText, long changeNanos) {
+        cancelPendingMatch();
+        latestText = commandText;
+        long request = ++latestRequest;
+        if (commandText.isBlank()) {
+            if (isFilterShown) {
+                logic.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+                isFilterShown = false;
+            }
+            return;
+        }
+
+        List<Person> persons = logic.getCourseBookSnapshot().getPersonList();
+        int version = courseBookVersion;
+        pendingMatch = matcher.schedule(() -> match(request, commandText, persons, version, changeNanos),
+                debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelPendingMatch() {
+        if (pendingMatch != null) {
+            pendingMatch.cancel(true);
+            pendingMatch = null;
+        }
+    }
+
+    /**
+     * Matches {@code persons} against {@code commandText} on the matcher thread, and hands the matches to the JavaFX
+     * application thread. Returns early if cancelled.
+     */
+    private void match(long request, String commandText, List<Person> persons, int version, long changeNanos) {
+        Optional<PersonContainsKeywordsPredicate> predicate = logic.parseFindPredicate(commandText);
+        if (predicate.isEmpty()) {
+            return;
+        }
+
+        List<Person> candidates = persons;
+        if (previousMatches != null && previousMatches.courseBookVersion == version
+                && predicate.get().refines(previousMatches.predicate)) {
+            candidates = previousMatches.persons;
+        }
+        List<Person> matchingPersons = new ArrayList<>();
+        int tested = 0;
+        for (Person person : candidates) {
+            if (tested++ % CANCELLATION_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            if (predicate.get().test(person)) {
+                matchingPersons.add(person);
+            }
+        }
+
+        Matches matches = new Matches(predicate.get(), matchingPersons, version);
+        previousMatches = matches;
+        fxThread.execute(() -> show(request, matches, changeNanos));
+    }
+
+    /**
+     * Shows {@code matches} on the JavaFX application thread, unless a later change of the command text superseded
+     * them. If the course book changed since they were matched, they are matched again.
+     */
+    private void show(long request, Matches matches, long changeNanos) {
+        if (request != latestRequest) {
+            return;
+        }
+        if (matches.courseBookVersion != courseBookVersion) {
+            schedule(latestText, changeNanos);
+            return;
+        }
+
+        logic.updateFilteredPersonList(matches.personSet::contains);
+        isFilterShown = true;
+        onFilterShown.run();
+        nextFrame.accept(() -> {
+            lastLatencyNanos = System.nanoTime() - changeNanos;
+            logger.fine("Live find shown " + lastLatencyNanos / 1_000_000 + "ms after typing");
+        });
+    }
+
+    /**
+     * Runs {@code callback} on the JavaFX application thread at the start of the next frame.
+     */
+    private static void runOnNextFrame(Runnable callback) {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                callback.run();
+            }
+        }.start();
+    }
+
+    /**
+     * The persons matching a predicate, in the order of the course book they were matched in.
+     */
+    private static class Matches {
+        private final PersonContainsKeywordsPredicate predicate;
+        private final List<Person> persons;
+        private final Set<Person> personSet;
+        private final int courseBookVersion;
+
+        Matches(PersonContainsKeywordsPredicate predicate, List<Person> persons, int courseBookVersion) {
+            this.predicate = predicate;
+            this.persons = persons;
+            this.personSet = Collections.newSetFromMap(new IdentityHashMap<>(persons.size() * 2));
+            this.personSet.addAll(persons);
+            this.courseBookVersion = courseBookVersion;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.coursebook.ui;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -167,18 +168,22 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillInnerParts() {
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        courseListPanel = new CourseListPanel(logic.getFilteredCourseList(), logic.getFilteredPersonList());
+        courseListPanel = new CourseListPanel(logic.getFilteredCourseList(), logic::getCourseEnrollmentCount);
 
         // Show courses view by default
         showCoursesView();
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.addSaveFailureListener(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getCourseBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, logic);
+        LiveFindFilter liveFindFilter = logic.isLiveFindEnabled()
+                ? new LiveFindFilter(logic, this::showPersonsView)
+                : null;
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic, liveFindFilter);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -0,0 +1,63 @@
+package seedu.coursebook.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.coursebook.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupProfilerTest {
+    private static final long MILLIS = 1_000_000;
+
+    private final AtomicLong clock = new AtomicLong(5 * MILLIS);
+    private final StartupProfiler profiler = new StartupProfiler(clock::get);
+
+    @Test
+    public void endPhase_nullPhase_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> profiler.endPhase(null));
+        assertThrows(NullPointerException.class, () -> profiler.addPhase(null, 0));
+    }
+
+    @Test
+    public void endPhase_phasesInOrder_recordsTimeSincePreviousPhase() {
+        clock.addAndGet(10 * MILLIS);
+        profiler.endPhase("config");
+        clock.addAndGet(30 * MILLIS);
+        profiler.endPhase("data");
+        profiler.addPhase("data (background)", 7 * MILLIS);
+        clock.addAndGet(2 * MILLIS);
+        profiler.endPhase("config");
+
+        Map<String, Long> phases = profiler.getPhaseNanos();
+        assertEquals(List.of("config", "data", "data (background)"), List.copyOf(phases.keySet()));
+        assertEquals(12 * MILLIS, phases.get("config"));
+        assertEquals(30 * MILLIS, phases.get("data"));
+        assertEquals(7 * MILLIS, phases.get("data (background)"));
+    }
+
+    @Test
+    public void recordFirstFrame_calledTwice_keepsFirstFrame() {
+        assertEquals(OptionalLong.empty(), profiler.getFirstFrameNanos());
+
+        clock.addAndGet(40 * MILLIS);
+        profiler.recordFirstFrame();
+        clock.addAndGet(40 * MILLIS);
+        profiler.recordFirstFrame();
+        assertEquals(OptionalLong.of(40 * MILLIS), profiler.getFirstFrameNanos());
+    }
+
+    @Test
+    public void getSummary() {
+        clock.addAndGet(10 * MILLIS);
+        profiler.endPhase("config");
+        assertEquals("Startup phases: config 10ms, first frame not shown yet", profiler.getSummary());
+
+        clock.addAndGet(25 * MILLIS);
+        profiler.recordFirstFrame();
+        assertEquals("Startup phases: config 10ms, first frame after 35ms", profiler.getSummary());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.coursebook.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.coursebook.testutil.Assert.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class EditDistanceTest {
+
+    private static final int UNBOUNDED = 1000;
+
+    @Test
+    public void damerauLevenshtein_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> EditDistance.damerauLevenshtein(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> EditDistance.damerauLevenshtein("abc", null, 1));
+    }
+
+    @Test
+    public void damerauLevenshtein_negativeBound_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> EditDistance.damerauLevenshtein("abc", "abc", -1));
+    }
+
+    @Test
+    public void damerauLevenshtein_knownDistances() {
+        // empty strings
+        assertEquals(0, EditDistance.damerauLevenshtein("", "", UNBOUNDED));
+        assertEquals(3, EditDistance.damerauLevenshtein("", "abc", UNBOUNDED));
+
+        // equal strings
+        assertEquals(0, EditDistance.damerauLevenshtein("john", "john", UNBOUNDED));
+
+        // one substitution, insertion, deletion or transposition
+        assertEquals(1, EditDistance.damerauLevenshtein("john", "joan", UNBOUNDED));
+        assertEquals(1, EditDistance.damerauLevenshtein("john", "johan", UNBOUNDED));
+        assertEquals(1, EditDistance.damerauLevenshtein("john", "jon", UNBOUNDED));
+        assertEquals(1, EditDistance.damerauLevenshtein("jonh", "john", UNBOUNDED));
+
+        // an insertion between transposed characters, which the optimal string alignment distance counts as 3
+        assertEquals(2, EditDistance.damerauLevenshtein("ca", "abc", UNBOUNDED));
+
+        assertEquals(3, EditDistance.damerauLevenshtein("kitten", "sitting", UNBOUNDED));
+    }
+
+    @Test
+    public void damerauLevenshtein_distanceMoreThanBound_returnsBoundPlusOne() {
+        assertEquals(2, EditDistance.damerauLevenshtein("kitten", "sitting", 1));
+        assertEquals(1, EditDistance.damerauLevenshtein("jonh", "john", 0));
+        assertEquals(3, EditDistance.damerauLevenshtein("a", "abcdef", 2));
+
+        // distances within the bound are exact
+        assertEquals(3, EditDistance.damerauLevenshtein("kitten", "sitting", 3));
+    }
+
+    @Test
+    public void damerauLevenshtein_randomStrings_isMetric() {
+        Random random = new Random(0);
+        for (int i = 0; i < 2000; i++) {
+            String a = randomWord(random);
+            String b = randomWord(random);
+            String c = randomWord(random);
+            int ab = EditDistance.damerauLevenshtein(a, b, UNBOUNDED);
+            assertEquals(ab, EditDistance.damerauLevenshtein(b, a, UNBOUNDED));
+            assertTrue(ab <= EditDistance.damerauLevenshtein(a, c, UNBOUNDED)
+                    + EditDistance.damerauLevenshtein(c, b, UNBOUNDED), a + " " + b + " " + c);
+            assertEquals(Math.min(ab, 3), EditDistance.damerauLevenshtein(a, b, 2));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        char[] chars = new char[3 + random.nextInt(6)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(6));
+        }
+        return new String(chars);
+    }
+}
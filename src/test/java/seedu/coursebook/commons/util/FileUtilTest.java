@@ -1,13 +1,22 @@
 package seedu.coursebook.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.coursebook.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,26 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void linkOrCopy_existingTarget_replacesTargetAndKeepsSource() throws Exception {
+        Path source = testFolder.resolve("source.json");
+        Path target = testFolder.resolve("target.json");
+        Files.writeString(source, "new");
+        Files.writeString(target, "old");
+
+        FileUtil.linkOrCopy(source, target);
+        assertEquals("new", Files.readString(source));
+        assertEquals("new", Files.readString(target));
+
+        // replacing the source leaves the target as it was
+        Path replacement = testFolder.resolve("replacement.json");
+        Files.writeString(replacement, "newer");
+        FileUtil.moveAtomically(replacement, source);
+        assertEquals("newer", Files.readString(source));
+        assertEquals("new", Files.readString(target));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(2, files.count());
+        }
+    }
+
 }
@@ -1,6 +1,8 @@
 package seedu.coursebook.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Path;
@@ -39,6 +41,24 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void isJsonFileUpToDate() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        // file saved from the same object -> returns true
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE);
+        assertTrue(JsonUtil.isJsonFileUpToDate(serializableTestClass, SERIALIZATION_FILE));
+
+        // file with different content -> returns false
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{}");
+        assertFalse(JsonUtil.isJsonFileUpToDate(serializableTestClass, SERIALIZATION_FILE));
+
+        // missing file -> returns false
+        assertFalse(JsonUtil.isJsonFileUpToDate(serializableTestClass,
+                TestUtil.getFilePathInSandboxFolder("missing.json")));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
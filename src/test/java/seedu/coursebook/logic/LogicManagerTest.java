@@ -1,6 +1,8 @@
 package seedu.coursebook.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.coursebook.logic.Messages.MESSAGE_COURSE_BOOK_LOADING;
 import static seedu.coursebook.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.coursebook.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.coursebook.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -11,7 +13,12 @@ import static seedu.coursebook.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,11 +30,13 @@ import seedu.coursebook.logic.commands.DeleteCommand;
 import seedu.coursebook.logic.commands.ListCommand;
 import seedu.coursebook.logic.commands.exceptions.CommandException;
 import seedu.coursebook.logic.parser.exceptions.ParseException;
+import seedu.coursebook.model.CourseBook;
 import seedu.coursebook.model.Model;
 import seedu.coursebook.model.ModelManager;
 import seedu.coursebook.model.ReadOnlyCourseBook;
 import seedu.coursebook.model.UserPrefs;
 import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonContainsKeywordsPredicate;
 import seedu.coursebook.storage.JsonCourseBookStorage;
 import seedu.coursebook.storage.JsonUserPrefsStorage;
 import seedu.coursebook.storage.StorageManager;
@@ -71,24 +80,67 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonCourseBookIoExceptionThrowingStub
-        JsonCourseBookStorage courseBookStorage =
-                new JsonCourseBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionCourseBook.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(courseBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+    public void execute_courseBookLoading_throwsCommandException() throws Exception {
+        model = new ModelManager(new UserPrefs(), null);
+        setUp();
+        assertCommandException(ListCommand.COMMAND_WORD, MESSAGE_COURSE_BOOK_LOADING);
 
-        // Execute add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
-                + ADDRESS_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        expectedModel.commitCourseBook();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        model.loadCourseBook(new CourseBook());
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void parseFindPredicate() {
+        // valid find command, or its alias -> returns its predicate
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(List.of("alice"), List.of(),
+                List.of(), List.of(), List.of());
+        assertEquals(Optional.of(predicate), logic.parseFindPredicate("find n/alice"));
+        assertEquals(Optional.of(predicate), logic.parseFindPredicate("f alice"));
+
+        // invalid find command, or another command -> returns empty
+        assertEquals(Optional.empty(), logic.parseFindPredicate("find n/"));
+        assertEquals(Optional.empty(), logic.parseFindPredicate(ListCommand.COMMAND_WORD));
+
+        // parsing neither executes the command nor adds it to the history
+        assertEquals(List.of(), logic.getHistory());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReported(DUMMY_IO_EXCEPTION, LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION);
+    }
+
+    @Test
+    public void execute_storageThrowsAccessDeniedException_reportsSaveFailure() throws Exception {
+        assertSaveFailureReported(DUMMY_AD_EXCEPTION,
+                String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
+    }
+
+    @Test
+    public void execute_modifyingCommand_returnsBeforeSaveCompletes() throws Exception {
+        Path courseBookPath = temporaryFolder.resolve("slowCourseBook.json");
+        CountDownLatch saveAllowed = new CountDownLatch(1);
+        JsonCourseBookStorage courseBookStorage = new JsonCourseBookStorage(courseBookPath) {
+            @Override
+            public void saveCourseBook(ReadOnlyCourseBook courseBook, Path filePath) throws IOException {
+                try {
+                    saveAllowed.await();
+                } catch (InterruptedException ie) {
+                    throw new IOException(ie);
+                }
+                super.saveCourseBook(courseBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(courseBookStorage, userPrefsStorage));
+
+        // the command completes while its save is still blocked
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertFalse(Files.exists(courseBookPath));
+
+        saveAllowed.countDown();
+        logic.flushPendingSaves();
+        assertEquals(new CourseBook(model.getCourseBook()), courseBookStorage.readCourseBook().get());
     }
 
     @Test
@@ -156,11 +208,12 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command itself succeeds, and the failure is reported to the save failure listeners once the save runs.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be given to the save failure listeners
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureReported(IOException e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an CourseBookStorage that throws the IOException e when saving
@@ -177,6 +230,8 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(courseBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
+        List<String> reportedMessages = new CopyOnWriteArrayList<>();
+        logic.addSaveFailureListener(reportedMessages::add);
 
         // Triggers the saveCourseBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -184,20 +239,11 @@ public class LogicManagerTest {
         Person expectedPerson = new PersonBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
-    }
+        expectedModel.commitCourseBook();
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                expectedModel);
 
-    /**
-     * A stub class to throw an {@code IOException} when the save method is called.
-     */
-    public static class JsonCourseBookIoExceptionThrowingStub extends JsonCourseBookStorage {
-        private JsonCourseBookIoExceptionThrowingStub(Path filePath) {
-            super(filePath);
-        }
-
-        @Override
-        public void saveCourseBook(ReadOnlyCourseBook courseBook, Path filePath) throws IOException {
-            throw DUMMY_IO_EXCEPTION;
-        }
+        logic.flushPendingSaves();
+        assertEquals(List.of(expectedMessage), reportedMessages);
     }
 }
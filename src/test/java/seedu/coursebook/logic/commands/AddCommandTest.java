@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -25,9 +26,11 @@ import seedu.coursebook.model.CourseBook;
 import seedu.coursebook.model.Model;
 import seedu.coursebook.model.ReadOnlyCourseBook;
 import seedu.coursebook.model.ReadOnlyUserPrefs;
+import seedu.coursebook.model.UndoHistoryStats;
 import seedu.coursebook.model.course.Course;
 import seedu.coursebook.model.course.CourseColor;
 import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonSortOrder;
 import seedu.coursebook.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -235,6 +238,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getUndoHistoryMemoryUsage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public UndoHistoryStats getUndoHistoryStats() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsInCourse(String courseCode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getCourseEnrollmentCount(Course course) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersonSortOrder(PersonSortOrder sortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyCourseBook getCourseBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadCourseBook(ReadOnlyCourseBook courseBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isCourseBookLoaded() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ThemeCommand.Theme getCurrentTheme() {
             throw new AssertionError("This method should not be called.");
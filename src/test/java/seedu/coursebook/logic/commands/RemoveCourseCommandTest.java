@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
@@ -22,9 +23,11 @@ import seedu.coursebook.logic.commands.exceptions.CommandException;
 import seedu.coursebook.model.Model;
 import seedu.coursebook.model.ReadOnlyCourseBook;
 import seedu.coursebook.model.ReadOnlyUserPrefs;
+import seedu.coursebook.model.UndoHistoryStats;
 import seedu.coursebook.model.course.Course;
 import seedu.coursebook.model.course.CourseColor;
 import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonSortOrder;
 import seedu.coursebook.testutil.PersonBuilder;
 
 public class RemoveCourseCommandTest {
@@ -197,6 +200,44 @@ public class RemoveCourseCommandTest {
             return null;
         }
 
+        @Override
+        public long getUndoHistoryMemoryUsage() {
+            return 0;
+        }
+
+        @Override
+        public UndoHistoryStats getUndoHistoryStats() {
+            return null;
+        }
+
+        @Override
+        public Set<Person> getPersonsInCourse(String courseCode) {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public int getCourseEnrollmentCount(Course course) {
+            return 0;
+        }
+
+        @Override
+        public void setPersonSortOrder(PersonSortOrder sortOrder) {
+        }
+
+        @Override
+        public ReadOnlyCourseBook getCourseBookSnapshot() {
+            return getCourseBook();
+        }
+
+        @Override
+        public void loadCourseBook(ReadOnlyCourseBook courseBook) {
+        }
+
+        @Override
+        public boolean isCourseBookLoaded() {
+            return true;
+        }
+
         @Override
         public ThemeCommand.Theme getCurrentTheme() {
             return null;
@@ -6,10 +6,12 @@ import static seedu.coursebook.logic.parser.CommandParserTestUtil.assertParseSuc
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.coursebook.logic.commands.FindCommand;
+import seedu.coursebook.model.person.FuzzyNamePredicate;
 import seedu.coursebook.model.person.PersonContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -37,6 +39,32 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyName_returnsFindCommand() {
+        // default maximum distance
+        assertParseSuccess(parser, " ~n/jonh", new FindCommand(
+                new FuzzyNamePredicate(List.of("jonh"), FuzzyNamePredicate.DEFAULT_MAX_DISTANCE)));
+
+        // multiple keywords and prefixes, with a maximum distance
+        assertParseSuccess(parser, " ~n/jonh alcie ~n/bob d/1", new FindCommand(
+                new FuzzyNamePredicate(List.of("jonh", "alcie", "bob"), 1)));
+    }
+
+    @Test
+    public void parse_fuzzyNameInvalidArgs_throwsParseException() {
+        // non-alphabetic or empty keyword
+        assertParseFailure(parser, " ~n/jonh1", seedu.coursebook.logic.Messages.MESSAGE_NAME_ALPHA_ONLY);
+        assertParseFailure(parser, " ~n/ d/1", seedu.coursebook.logic.Messages.MESSAGE_NAME_ALPHA_ONLY);
+
+        // other prefixes are not part of a fuzzy search
+        assertParseFailure(parser, " ~n/jonh p/9123", seedu.coursebook.logic.Messages.MESSAGE_NAME_ALPHA_ONLY);
+
+        // invalid maximum distance
+        assertParseFailure(parser, " ~n/jonh d/4", FuzzyNamePredicate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ~n/jonh d/-1", FuzzyNamePredicate.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " ~n/jonh d/two", FuzzyNamePredicate.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_unprefixedNonAlpha_throwsParseException() {
         assertParseFailure(parser, "Alice123", seedu.coursebook.logic.Messages.MESSAGE_NAME_ALPHA_ONLY);
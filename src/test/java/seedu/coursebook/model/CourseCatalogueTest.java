@@ -0,0 +1,205 @@
+package seedu.coursebook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.coursebook.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.coursebook.model.course.Course;
+import seedu.coursebook.model.course.CourseColor;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class CourseCatalogueTest {
+
+    private final Person alice = new PersonBuilder().withName("Alice").withCourses("CS2103T", "CS2101").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withCourses("CS2101", "MA1521").build();
+    private final Person carl = new PersonBuilder().withName("Carl").withCourses("CS1231S").build();
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+
+    @Test
+    public void constructor_persons_listsEachCourseOnceInOrder() {
+        persons.setAll(alice, bob);
+        CourseCatalogue catalogue = createCatalogue();
+
+        assertEquals(Arrays.asList("CS2101", "CS2103T", "MA1521"), courseCodes(catalogue));
+        assertEquals(2, catalogue.getEnrollmentCount(new Course("CS2101")));
+        assertEquals(1, catalogue.getEnrollmentCount(new Course("MA1521")));
+        assertEquals(0, catalogue.getEnrollmentCount(new Course("CS1231S")));
+    }
+
+    @Test
+    public void handleChange_personAdded_insertsOnlyNewCourses() {
+        persons.setAll(alice);
+        CourseCatalogue catalogue = createCatalogue();
+        List<String> changes = recordChanges(catalogue);
+
+        persons.add(bob);
+
+        assertEquals(Arrays.asList("CS2101", "CS2103T", "MA1521"), courseCodes(catalogue));
+        assertEquals(2, catalogue.getEnrollmentCount(new Course("CS2101")));
+        // the shared course is replaced in place, so that its count is redrawn
+        assertEquals(Arrays.asList("+MA1521", "*CS2101"), changes);
+    }
+
+    @Test
+    public void handleChange_sharedCourseStillEnrolled_keepsCourse() {
+        persons.setAll(alice, bob);
+        CourseCatalogue catalogue = createCatalogue();
+        List<String> changes = recordChanges(catalogue);
+
+        persons.remove(alice);
+
+        assertEquals(Arrays.asList("CS2101", "MA1521"), courseCodes(catalogue));
+        assertEquals(1, catalogue.getEnrollmentCount(new Course("CS2101")));
+        assertEquals(Arrays.asList("-CS2103T", "*CS2101"), changes);
+    }
+
+    @Test
+    public void handleChange_personReplaced_appliesBothSides() {
+        persons.setAll(alice, bob);
+        CourseCatalogue catalogue = createCatalogue();
+
+        persons.set(1, carl);
+
+        assertEquals(Arrays.asList("CS1231S", "CS2101", "CS2103T"), courseCodes(catalogue));
+        assertEquals(1, catalogue.getEnrollmentCount(new Course("CS2101")));
+    }
+
+    @Test
+    public void handleChange_sameCoursesReplaced_firesNoChange() {
+        persons.setAll(alice, bob);
+        CourseCatalogue catalogue = createCatalogue();
+        List<String> changes = recordChanges(catalogue);
+
+        persons.setAll(bob, alice);
+
+        assertEquals(Collections.emptyList(), changes);
+    }
+
+    @Test
+    public void handleChange_courseRecoloured_replacesListedCourse() {
+        persons.setAll(alice);
+        CourseCatalogue catalogue = createCatalogue();
+
+        Set<Course> recolouredCourses = alice.getCourses().stream()
+                .map(course -> new Course(course.courseCode, CourseColor.RED))
+                .collect(Collectors.toSet());
+        persons.set(0, new Person(alice.getName(), alice.getPhone(), alice.getEmail(), alice.getAddress(),
+                alice.getTags(), recolouredCourses, alice.getBirthday(), alice.isFavourite()));
+
+        assertEquals(Arrays.asList(CourseColor.RED, CourseColor.RED), catalogue.asUnmodifiableObservableList()
+                .stream().map(course -> course.color).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void getPersonsInCourse_personsChange_viewStaysLive() {
+        persons.setAll(alice);
+        CourseCatalogue catalogue = createCatalogue();
+        Set<Person> personsInCs2101 = catalogue.getPersonsInCourse("cs2101");
+        Set<Person> personsInMa1521 = catalogue.getPersonsInCourse("MA1521");
+        assertEquals(Collections.singleton(alice), personsInCs2101);
+        assertTrue(personsInMa1521.isEmpty());
+
+        persons.add(bob);
+        assertEquals(Set.of(alice, bob), personsInCs2101);
+        assertEquals(Collections.singleton(bob), personsInMa1521);
+
+        persons.clear();
+        assertTrue(personsInCs2101.isEmpty());
+        persons.add(alice);
+        assertEquals(Collections.singleton(alice), personsInCs2101);
+        assertThrows(UnsupportedOperationException.class, () -> personsInCs2101.add(bob));
+
+        // course nobody has enrolled in -> empty, and not listed
+        assertTrue(catalogue.getPersonsInCourse("XX0000").isEmpty());
+        assertEquals(0, catalogue.getEnrollmentCount(new Course("XX0000")));
+        assertFalse(catalogue.asUnmodifiableObservableList().contains(new Course("XX0000")));
+    }
+
+    @Test
+    public void getEnrollmentCount_manyPersons_sameAsScanning() {
+        int courseCount = 100;
+        List<Course> courses = new ArrayList<>(courseCount);
+        for (int i = 0; i < courseCount; i++) {
+            courses.add(new Course("C" + i));
+        }
+        Person template = new PersonBuilder().build();
+        for (int i = 0; i < 2_000; i++) {
+            Set<Course> enrolled = Set.of(courses.get(i % courseCount), courses.get((i * 7 + 1) % courseCount));
+            persons.add(new Person(template.getName(), template.getPhone(), template.getEmail(),
+                    template.getAddress(), template.getTags(), enrolled, template.getBirthday(), false));
+        }
+        CourseCatalogue catalogue = createCatalogue();
+
+        assertEquals(countByScanning(courses), countByIndex(catalogue, courses));
+        assertFalse(catalogue.getPersonsInCourse("C0").isEmpty());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        CourseCatalogue catalogue = createCatalogue();
+        assertThrows(UnsupportedOperationException.class, () ->
+                catalogue.asUnmodifiableObservableList().add(new Course("CS2103T")));
+    }
+
+    private CourseCatalogue createCatalogue() {
+        CourseCatalogue catalogue = new CourseCatalogue(persons);
+        persons.addListener(catalogue::handleChange);
+        return catalogue;
+    }
+
+    private List<Integer> countByScanning(List<Course> courses) {
+        return courses.stream()
+                .map(course -> (int) persons.stream()
+                        .filter(person -> person.getCourses().stream()
+                                .anyMatch(c -> c.courseCode.equalsIgnoreCase(course.courseCode)))
+                        .count())
+                .collect(Collectors.toList());
+    }
+
+    private List<Integer> countByIndex(CourseCatalogue catalogue, List<Course> courses) {
+        return courses.stream()
+                .map(catalogue::getEnrollmentCount)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> courseCodes(CourseCatalogue catalogue) {
+        return catalogue.asUnmodifiableObservableList().stream()
+                .map(course -> course.courseCode)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a list that receives "+CODE" and "-CODE" for every course added to or removed from the catalogue, and
+     * "*CODE" for every course replaced in place by the same course.
+     */
+    private List<String> recordChanges(CourseCatalogue catalogue) {
+        List<String> changes = new ArrayList<>();
+        catalogue.asUnmodifiableObservableList().addListener((ListChangeListener<Course>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced() && change.getRemoved().equals(change.getAddedSubList())
+                        && change.getRemoved().get(0) == change.getAddedSubList().get(0)) {
+                    change.getAddedSubList().forEach(course -> changes.add("*" + course.courseCode));
+                    continue;
+                }
+                change.getRemoved().forEach(course -> changes.add("-" + course.courseCode));
+                change.getAddedSubList().forEach(course -> changes.add("+" + course.courseCode));
+            }
+        });
+        return changes;
+    }
+}
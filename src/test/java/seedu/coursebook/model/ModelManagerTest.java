@@ -2,21 +2,33 @@ package seedu.coursebook.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.coursebook.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.coursebook.testutil.Assert.assertThrows;
 import static seedu.coursebook.testutil.TypicalPersons.ALICE;
 import static seedu.coursebook.testutil.TypicalPersons.BENSON;
+import static seedu.coursebook.testutil.TypicalPersons.DANIEL;
+import static seedu.coursebook.testutil.TypicalPersons.ELLE;
+import static seedu.coursebook.testutil.TypicalPersons.getTypicalCourseBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.coursebook.commons.core.GuiSettings;
+import seedu.coursebook.model.course.Course;
+import seedu.coursebook.model.course.CourseColor;
+import seedu.coursebook.model.person.FuzzyNamePredicate;
 import seedu.coursebook.model.person.NameContainsKeywordsPredicate;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.PersonSortOrder;
 import seedu.coursebook.testutil.CourseBookBuilder;
+import seedu.coursebook.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -30,6 +42,29 @@ public class ModelManagerTest {
         assertEquals(new CourseBook(), new CourseBook(modelManager.getCourseBook()));
     }
 
+    @Test
+    public void loadCourseBook_emptyModel_replacesDataWithoutHistory() {
+        for (VersionedCourseBook.HistoryMode mode : VersionedCourseBook.HistoryMode.values()) {
+            UserPrefs userPrefs = new UserPrefs();
+            userPrefs.setUndoHistoryMode(mode);
+            ModelManager loadingModel = new ModelManager(userPrefs, null);
+            assertFalse(loadingModel.isCourseBookLoaded());
+            assertTrue(loadingModel.getFilteredPersonList().isEmpty());
+
+            loadingModel.loadCourseBook(getTypicalCourseBook());
+            assertTrue(loadingModel.isCourseBookLoaded());
+            assertEquals(getTypicalCourseBook().getPersonList(), loadingModel.getFilteredPersonList());
+            assertFalse(loadingModel.canUndoCourseBook());
+
+            // the loaded data is the oldest state that can be undone to
+            loadingModel.deletePerson(ALICE);
+            loadingModel.commitCourseBook();
+            loadingModel.undoCourseBook();
+            assertEquals(getTypicalCourseBook(), new CourseBook(loadingModel.getCourseBook()));
+            assertFalse(loadingModel.canUndoCourseBook());
+        }
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -121,6 +156,98 @@ public class ModelManagerTest {
             assertTrue(course.courseCode.startsWith("CS")));
     }
 
+    @Test
+    public void getPersonsInCourse_filterByCourseThenEnroll_showsNewlyEnrolledPerson() {
+        Person aliceInCs2103t = new PersonBuilder(ALICE).withCourses("CS2103T").build();
+        Person bensonInCs2101 = new PersonBuilder(BENSON).withCourses("CS2101").build();
+        modelManager.addPerson(aliceInCs2103t);
+        modelManager.addPerson(bensonInCs2101);
+        modelManager.updateFilteredPersonList(modelManager.getPersonsInCourse("cs2103t")::contains);
+        assertEquals(Arrays.asList(aliceInCs2103t), modelManager.getFilteredPersonList());
+
+        Person bensonInBoth = new PersonBuilder(BENSON).withCourses("CS2101", "CS2103T").build();
+        modelManager.setPerson(bensonInCs2101, bensonInBoth);
+        assertEquals(Arrays.asList(aliceInCs2103t, bensonInBoth), modelManager.getFilteredPersonList());
+        assertEquals(2, modelManager.getCourseEnrollmentCount(new Course("CS2103T")));
+    }
+
+    @Test
+    public void setCourseColor_enrolledPersons_recoloursOnlyThemWithoutCommitting() {
+        Person aliceInCs2103t = new PersonBuilder(ALICE).withCourses("CS2103T").build();
+        Person bensonInCs2101 = new PersonBuilder(BENSON).withCourses("CS2101").build();
+        modelManager.addPerson(aliceInCs2103t);
+        modelManager.addPerson(bensonInCs2101);
+        modelManager.commitCourseBook();
+
+        modelManager.setCourseColor("cs2103t", CourseColor.RED);
+
+        Person recolouredAlice = modelManager.getFilteredPersonList().get(0);
+        assertEquals(CourseColor.RED, recolouredAlice.getCourses().iterator().next().color);
+        assertSame(bensonInCs2101, modelManager.getFilteredPersonList().get(1));
+        assertEquals(CourseColor.RED, modelManager.getFilteredCourseList().stream()
+                .filter(course -> course.courseCode.equals("CS2103T"))
+                .findFirst().get().color);
+
+        // the recolour is undone together with the rest of the uncommitted changes
+        modelManager.commitCourseBook();
+        modelManager.undoCourseBook();
+        assertEquals(Arrays.asList(aliceInCs2103t, bensonInCs2101), modelManager.getFilteredPersonList());
+        assertEquals(CourseColor.GREEN, modelManager.getFilteredPersonList().get(0).getCourses().iterator().next()
+                .color);
+    }
+
+    @Test
+    public void setPersonSortOrder_sortsViewOnlyAndRemembersOrder() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.commitCourseBook();
+        int[] invalidations = new int[1];
+        modelManager.getCourseBook().getPersonList().addListener(
+                (ListChangeListener<Person>) change -> invalidations[0]++);
+
+        modelManager.setPersonSortOrder(PersonSortOrder.NAME_ASCENDING);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(BENSON, ALICE), modelManager.getCourseBook().getPersonList());
+        assertEquals(0, invalidations[0]);
+        assertEquals(PersonSortOrder.NAME_ASCENDING, modelManager.getUserPrefs().getPersonSortOrder());
+
+        // the remembered order is applied when the model is created again
+        ModelManager restartedModelManager = new ModelManager(modelManager.getCourseBook(),
+                modelManager.getUserPrefs());
+        assertEquals(Arrays.asList(ALICE, BENSON), restartedModelManager.getFilteredPersonList());
+
+        // persons added later are kept in order
+        Person amy = new PersonBuilder().withName("Amy Bee").withPhone("11111111").withEmail("amy@example.com")
+                .build();
+        modelManager.addPerson(amy);
+        assertEquals(Arrays.asList(ALICE, amy, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.setPersonSortOrder(PersonSortOrder.NONE);
+        assertEquals(Arrays.asList(BENSON, ALICE, amy), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_fuzzyPredicate_ranksClosestFirstUntilFilteredAgain() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(DANIEL);
+        modelManager.addPerson(ELLE);
+
+        modelManager.updateFilteredPersonList(new FuzzyNamePredicate(List.of("meyer"), 1));
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // persons matching equally closely are in the sort order of the user
+        modelManager.setPersonSortOrder(PersonSortOrder.NAME_DESCENDING);
+        modelManager.updateFilteredPersonList(new FuzzyNamePredicate(List.of("meyer"), 1));
+        assertEquals(Arrays.asList(ELLE, DANIEL, BENSON), modelManager.getFilteredPersonList());
+
+        // filtering again restores the sort order of the user
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ELLE, DANIEL, BENSON, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(PersonSortOrder.NAME_DESCENDING, modelManager.getUserPrefs().getPersonSortOrder());
+    }
+
     @Test
     public void equals() {
         CourseBook courseBook = new CourseBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,156 @@
+package seedu.coursebook.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class ParallelFilteredListTest {
+
+    private static final Predicate<Integer> IS_EVEN = number -> number % 2 == 0;
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(
+            IntStream.range(0, 20).boxed().collect(Collectors.toList()));
+
+    @Test
+    public void constructor_showsEveryElement() {
+        assertEquals(source, new ParallelFilteredList<>(source));
+    }
+
+    @Test
+    public void setPredicate_firesOneChange() {
+        ParallelFilteredList<Integer> filtered = new ParallelFilteredList<>(source);
+        List<Integer> mirror = mirror(filtered);
+        int[] changeCount = new int[1];
+        filtered.addListener((ListChangeListener<Integer>) change -> changeCount[0]++);
+
+        filtered.setPredicate(IS_EVEN);
+        assertEquals(List.of(0, 2, 4, 6, 8, 10, 12, 14, 16, 18), filtered);
+        assertEquals(filtered, mirror);
+        assertEquals(1, changeCount[0]);
+        assertEquals(IS_EVEN, filtered.getPredicate());
+        assertEquals(4, filtered.getSourceIndex(2));
+        assertEquals(2, filtered.getViewIndex(4));
+        assertEquals(-1, filtered.getViewIndex(5));
+
+        // null predicate -> shows every element
+        filtered.setPredicate(null);
+        assertEquals(source, filtered);
+        assertEquals(filtered, mirror);
+    }
+
+    @Test
+    public void sourceChanged_variousChanges_sameAsFilteredList() {
+        ParallelFilteredList<Integer> filtered = new ParallelFilteredList<>(source);
+        filtered.setPredicate(IS_EVEN);
+        List<Integer> mirror = mirror(filtered);
+        FilteredList<Integer> expected = new FilteredList<>(source, IS_EVEN);
+
+        source.add(3, 100);
+        source.addAll(0, List.of(7, 8, 9));
+        source.remove(Integer.valueOf(4));
+        source.removeAll(List.of(10, 11, 12));
+        source.set(5, 42);
+        source.set(6, 43);
+        source.sort(Comparator.reverseOrder());
+        assertEquals(expected, filtered);
+        assertEquals(filtered, mirror);
+
+        source.setAll(5, 6, 7, 8);
+        assertEquals(List.of(6, 8), filtered);
+        assertEquals(filtered, mirror);
+
+        source.clear();
+        assertEquals(List.of(), filtered);
+        assertEquals(filtered, mirror);
+    }
+
+    @Test
+    public void sourceChanged_updates_testsUpdatedElementsAgain() {
+        ObservableList<IntegerProperty> numbers = FXCollections.observableArrayList(
+                number -> new Observable[] {number});
+        for (int i = 0; i < 4; i++) {
+            numbers.add(new SimpleIntegerProperty(i));
+        }
+        ParallelFilteredList<IntegerProperty> filtered = new ParallelFilteredList<>(numbers);
+        filtered.setPredicate(number -> number.get() % 2 == 0);
+        List<IntegerProperty> mirror = mirror(filtered);
+        int[] updateCount = new int[1];
+        filtered.addListener((ListChangeListener<IntegerProperty>) change -> {
+            while (change.next()) {
+                updateCount[0] += change.wasUpdated() ? 1 : 0;
+            }
+        });
+
+        // shown element no longer matches
+        numbers.get(0).set(1);
+        // hidden element matches
+        numbers.get(3).set(4);
+        // shown element still matches
+        numbers.get(2).set(6);
+
+        assertEquals(List.of(numbers.get(2), numbers.get(3)), filtered);
+        assertEquals(filtered, mirror);
+        assertEquals(1, updateCount[0]);
+    }
+
+    @Test
+    public void setPredicate_parallelScan_sameAsSequential() {
+        ObservableList<Integer> large = FXCollections.observableArrayList(
+                IntStream.range(0, 50_000).boxed().collect(Collectors.toList()));
+        Collections.shuffle(large, new Random(0));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ParallelFilteredList<Integer> parallel = new ParallelFilteredList<>(large, pool, 1);
+        List<Integer> mirror = mirror(parallel);
+        FilteredList<Integer> expected = new FilteredList<>(large);
+
+        Predicate<Integer> predicate = number -> number % 7 == 3;
+        parallel.setPredicate(predicate);
+        expected.setPredicate(predicate);
+        assertEquals(expected, parallel);
+
+        // large additions are tested in parallel too
+        large.setAll(IntStream.range(0, 40_000).boxed().collect(Collectors.toList()));
+        assertEquals(expected, parallel);
+        assertEquals(parallel, mirror);
+        pool.shutdown();
+    }
+
+    /**
+     * Returns a list that applies every change of {@code list} to a copy of it, to check the changes it fires.
+     */
+    private static <E> List<E> mirror(ObservableList<E> list) {
+        List<E> mirror = new ArrayList<>(list);
+        list.addListener((ListChangeListener<E>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    List<E> moved = new ArrayList<>(mirror.subList(change.getFrom(), change.getTo()));
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        mirror.set(change.getPermutation(i), moved.get(i - change.getFrom()));
+                    }
+                } else if (!change.wasUpdated()) {
+                    mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                    mirror.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+        return mirror;
+    }
+}
@@ -8,12 +8,21 @@ import static seedu.coursebook.testutil.TypicalPersons.AMY;
 import static seedu.coursebook.testutil.TypicalPersons.BOB;
 import static seedu.coursebook.testutil.TypicalPersons.CARL;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.coursebook.logic.commands.ThemeCommand;
+import seedu.coursebook.model.VersionedCourseBook.HistoryMode;
+import seedu.coursebook.model.VersionedCourseBook.HistoryUnavailableException;
+import seedu.coursebook.model.person.Person;
 import seedu.coursebook.testutil.CourseBookBuilder;
 
 public class VersionedCourseBookTest {
@@ -207,6 +216,223 @@ public class VersionedCourseBookTest {
         assertThrows(VersionedCourseBook.NoRedoableStateException.class, versionedCourseBook::redo);
     }
 
+    @Test
+    public void undoRedo_afterPersonLevelEdits_restoresCommittedStates() {
+        VersionedCourseBook versionedCourseBook = new VersionedCourseBook(courseBookWithAmy);
+        versionedCourseBook.addPerson(BOB);
+        versionedCourseBook.commit();
+        versionedCourseBook.setPerson(BOB, CARL);
+        versionedCourseBook.commit();
+        versionedCourseBook.removePerson(AMY);
+        versionedCourseBook.commit();
+
+        versionedCourseBook.undo();
+        assertEquals(new CourseBookBuilder().withPerson(AMY).withPerson(CARL).build(),
+                new CourseBook(versionedCourseBook));
+        versionedCourseBook.undo();
+        assertEquals(new CourseBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new CourseBook(versionedCourseBook));
+        versionedCourseBook.undo();
+        assertEquals(courseBookWithAmy, new CourseBook(versionedCourseBook));
+
+        versionedCourseBook.redo();
+        versionedCourseBook.redo();
+        versionedCourseBook.redo();
+        assertEquals(courseBookWithCarl, new CourseBook(versionedCourseBook));
+        assertTrue(versionedCourseBook.hasPerson(CARL));
+        assertFalse(versionedCourseBook.hasPerson(AMY));
+    }
+
+    @Test
+    public void undoRedo_journalMode_restoresCommittedStates() {
+        VersionedCourseBook versionedCourseBook = new VersionedCourseBook(courseBookWithAmy, HistoryMode.JOURNAL, 0);
+        versionedCourseBook.addPerson(BOB);
+        versionedCourseBook.commit();
+        versionedCourseBook.setPerson(BOB, CARL);
+        versionedCourseBook.setCurrentTheme(ThemeCommand.Theme.BLUE);
+        versionedCourseBook.commit();
+        versionedCourseBook.resetData(emptyCourseBook);
+        versionedCourseBook.commit();
+
+        versionedCourseBook.undo();
+        assertEquals(new CourseBookBuilder().withPerson(AMY).withPerson(CARL).build().getPersonList(),
+                versionedCourseBook.getPersonList());
+        assertEquals(ThemeCommand.Theme.BLUE, versionedCourseBook.getCurrentTheme());
+        versionedCourseBook.undo();
+        assertEquals(new CourseBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new CourseBook(versionedCourseBook));
+        versionedCourseBook.undo();
+        assertEquals(courseBookWithAmy, new CourseBook(versionedCourseBook));
+        assertFalse(versionedCourseBook.canUndo());
+
+        versionedCourseBook.redo();
+        versionedCourseBook.redo();
+        assertTrue(versionedCourseBook.hasPerson(CARL));
+        assertEquals(ThemeCommand.Theme.BLUE, versionedCourseBook.getCurrentTheme());
+        versionedCourseBook.redo();
+        assertTrue(versionedCourseBook.getPersonList().isEmpty());
+        assertFalse(versionedCourseBook.canRedo());
+    }
+
+    @Test
+    public void undo_journalModeWithUncommittedEdits_discardsThem() {
+        VersionedCourseBook versionedCourseBook = new VersionedCourseBook(courseBookWithAmy, HistoryMode.JOURNAL, 0);
+        versionedCourseBook.addPerson(BOB);
+        versionedCourseBook.commit();
+        versionedCourseBook.addPerson(CARL);
+
+        versionedCourseBook.undo();
+        assertEquals(courseBookWithAmy, new CourseBook(versionedCourseBook));
+        versionedCourseBook.redo();
+        assertEquals(new CourseBookBuilder().withPerson(AMY).withPerson(BOB).build(),
+                new CourseBook(versionedCourseBook));
+    }
+
+    @Test
+    public void undo_journalMode_firesSingleElementChange() {
+        VersionedCourseBook versionedCourseBook = new VersionedCourseBook(
+                new CourseBookBuilder().withPerson(AMY).withPerson(BOB).build(), HistoryMode.JOURNAL, 0);
+        versionedCourseBook.setPerson(BOB, CARL);
+        versionedCourseBook.commit();
+
+        List<String> changes = new ArrayList<>();
+        versionedCourseBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemovedSize() + "->" + change.getAddedSize());
+            }
+        });
+        versionedCourseBook.undo();
+
+        assertEquals(Collections.singletonList("1:1->1"), changes);
+    }
+
+    @Test
+    public void commit_historyDepthReached_dropsOldestState() {
+        for (HistoryMode mode : HistoryMode.values()) {
+            VersionedCourseBook versionedCourseBook = new VersionedCourseBook(emptyCourseBook, mode, 2);
+            versionedCourseBook.addPerson(AMY);
+            versionedCourseBook.commit();
+            versionedCourseBook.addPerson(BOB);
+            versionedCourseBook.commit();
+            versionedCourseBook.addPerson(CARL);
+            versionedCourseBook.commit();
+
+            versionedCourseBook.undo();
+            versionedCourseBook.undo();
+            assertFalse(versionedCourseBook.canUndo());
+            assertEquals(courseBookWithAmy, new CourseBook(versionedCourseBook));
+        }
+    }
+
+    @Test
+    public void getHistoryMemoryUsage_journalMode_tracksCommitsAndUndoneStates() {
+        VersionedCourseBook versionedCourseBook = new VersionedCourseBook(emptyCourseBook, HistoryMode.JOURNAL, 0);
+        assertEquals(0, versionedCourseBook.getHistoryMemoryUsage());
+
+        versionedCourseBook.addPerson(AMY);
+        versionedCourseBook.commit();
+        long afterOneCommit = versionedCourseBook.getHistoryMemoryUsage();
+        assertTrue(afterOneCommit > 0);
+
+        versionedCourseBook.addPerson(BOB);
+        versionedCourseBook.commit();
+        assertTrue(versionedCourseBook.getHistoryMemoryUsage() > afterOneCommit);
+
+        // committing after an undo discards the undone entry
+        versionedCourseBook.undo();
+        versionedCourseBook.commit();
+        assertEquals(afterOneCommit + JournalHistory.ENTRY_OVERHEAD_BYTES,
+                versionedCourseBook.getHistoryMemoryUsage());
+    }
+
+    @Test
+    public void undoRedo_memoryBudgetExceeded_spillsAndReloadsOldStates() {
+        InMemorySpillStore spillStore = new InMemorySpillStore(false);
+        VersionedCourseBook versionedCourseBook = new VersionedCourseBook(emptyCourseBook, 0, 1, spillStore,
+                Runnable::run);
+        versionedCourseBook.addPerson(AMY);
+        versionedCourseBook.commit();
+        versionedCourseBook.setPerson(AMY, BOB);
+        versionedCourseBook.commit();
+
+        UndoHistoryStats stats = versionedCourseBook.getHistoryStats();
+        assertEquals(3, stats.getStateCount());
+        assertEquals(2, stats.getSpilledStateCount());
+        assertEquals(spillStore.size(), stats.getSpilledBytes());
+
+        versionedCourseBook.undo();
+        assertEquals(courseBookWithAmy, new CourseBook(versionedCourseBook));
+        versionedCourseBook.undo();
+        assertEquals(emptyCourseBook, new CourseBook(versionedCourseBook));
+        versionedCourseBook.redo();
+        assertEquals(courseBookWithAmy, new CourseBook(versionedCourseBook));
+        versionedCourseBook.redo();
+        assertEquals(courseBookWithBob, new CourseBook(versionedCourseBook));
+        assertEquals(3, versionedCourseBook.getHistoryStats().getReloadCount());
+    }
+
+    @Test
+    public void commit_withinMemoryBudget_keepsStatesInMemory() {
+        InMemorySpillStore spillStore = new InMemorySpillStore(false);
+        VersionedCourseBook versionedCourseBook = new VersionedCourseBook(emptyCourseBook, 0, Long.MAX_VALUE,
+                spillStore, Runnable::run);
+        versionedCourseBook.addPerson(AMY);
+        versionedCourseBook.commit();
+        versionedCourseBook.setPerson(AMY, BOB);
+        versionedCourseBook.commit();
+
+        assertEquals(0, versionedCourseBook.getHistoryStats().getSpilledStateCount());
+        assertEquals(0, spillStore.size());
+        // the state holding AMY is the only one retaining a person that is no longer live
+        assertEquals(3 * SnapshotHistory.STATE_OVERHEAD_BYTES + SnapshotHistory.PERSON_BYTES,
+                versionedCourseBook.getHistoryMemoryUsage());
+    }
+
+    @Test
+    public void commit_overMemoryBudget_spillsOnExecutorAndKeepsStateUntilWritten() {
+        InMemorySpillStore spillStore = new InMemorySpillStore(false);
+        List<Runnable> pendingSpills = new ArrayList<>();
+        VersionedCourseBook versionedCourseBook = new VersionedCourseBook(emptyCourseBook, 0, 1, spillStore,
+                pendingSpills::add);
+        versionedCourseBook.addPerson(AMY);
+        versionedCourseBook.commit();
+
+        // the state is still in memory until it is written
+        assertEquals(1, pendingSpills.size());
+        assertEquals(0, versionedCourseBook.getHistoryStats().getSpilledStateCount());
+        versionedCourseBook.commit();
+        assertEquals(2, pendingSpills.size());
+
+        pendingSpills.forEach(Runnable::run);
+        assertEquals(2, versionedCourseBook.getHistoryStats().getSpilledStateCount());
+        versionedCourseBook.undo();
+        versionedCourseBook.undo();
+        assertEquals(emptyCourseBook, new CourseBook(versionedCourseBook));
+    }
+
+    @Test
+    public void commit_noMemoryBudget_doesNotCountRetainedPersons() {
+        VersionedCourseBook versionedCourseBook = new VersionedCourseBook(emptyCourseBook, HistoryMode.SNAPSHOT, 0);
+        versionedCourseBook.addPerson(AMY);
+        versionedCourseBook.commit();
+        versionedCourseBook.setPerson(AMY, BOB);
+        versionedCourseBook.commit();
+
+        assertEquals(3 * SnapshotHistory.STATE_OVERHEAD_BYTES, versionedCourseBook.getHistoryMemoryUsage());
+    }
+
+    @Test
+    public void undo_spilledStateUnreadable_throwsHistoryUnavailableException() {
+        VersionedCourseBook versionedCourseBook = new VersionedCourseBook(emptyCourseBook, 0, 1,
+                new InMemorySpillStore(true), Runnable::run);
+        versionedCourseBook.addPerson(AMY);
+        versionedCourseBook.commit();
+
+        assertThrows(HistoryUnavailableException.class, versionedCourseBook::undo);
+        assertFalse(versionedCourseBook.canUndo());
+        assertEquals(courseBookWithAmy, new CourseBook(versionedCourseBook));
+    }
+
     @Test
     public void equals() {
         VersionedCourseBook versionedCourseBook = prepareCourseBookList(courseBookWithAmy, courseBookWithBob);
@@ -295,4 +521,43 @@ public class VersionedCourseBookTest {
             versionedCourseBook.undo();
         }
     }
+
+    /**
+     * A {@code HistorySpillStore} that keeps spilled persons in a map, optionally failing every reload.
+     */
+    private static class InMemorySpillStore implements HistorySpillStore {
+        private final Map<Long, List<Person>> records = new HashMap<>();
+        private final boolean isReloadFailing;
+        private long size;
+
+        InMemorySpillStore(boolean isReloadFailing) {
+            this.isReloadFailing = isReloadFailing;
+        }
+
+        @Override
+        public long spill(List<Person> persons) {
+            long position = size;
+            records.put(position, new ArrayList<>(persons));
+            size += persons.size() + 1;
+            return position;
+        }
+
+        @Override
+        public List<Person> reload(long position) throws IOException {
+            if (isReloadFailing) {
+                throw new IOException("Reload failed");
+            }
+            return new ArrayList<>(records.get(position));
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public void close() {
+            records.clear();
+        }
+    }
 }
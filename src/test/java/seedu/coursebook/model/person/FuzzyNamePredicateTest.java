@@ -0,0 +1,87 @@
+package seedu.coursebook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.coursebook.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class FuzzyNamePredicateTest {
+
+    @Test
+    public void constructor_invalidMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FuzzyNamePredicate(List.of("jonh"), -1));
+        assertThrows(IllegalArgumentException.class, () ->
+                new FuzzyNamePredicate(List.of("jonh"), FuzzyNamePredicate.MAX_MAX_DISTANCE + 1));
+    }
+
+    @Test
+    public void equals() {
+        FuzzyNamePredicate firstPredicate = new FuzzyNamePredicate(List.of("jonh"), 1);
+        FuzzyNamePredicate secondPredicate = new FuzzyNamePredicate(List.of("jonh", "alcie"), 1);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FuzzyNamePredicate(List.of("jonh"), 1)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different maximum distance -> returns false
+        assertFalse(firstPredicate.equals(new FuzzyNamePredicate(List.of("jonh"), 2)));
+    }
+
+    @Test
+    public void test_nameWordWithinMaxDistance_returnsTrue() {
+        // transposition
+        assertTrue(new FuzzyNamePredicate(List.of("jonh"), 1).test(new PersonBuilder().withName("John Doe").build()));
+
+        // mixed case, any word of the name
+        assertTrue(new FuzzyNamePredicate(List.of("DEO"), 1).test(new PersonBuilder().withName("John Doe").build()));
+
+        // any keyword
+        assertTrue(new FuzzyNamePredicate(List.of("xyz", "jhn"), 1)
+                .test(new PersonBuilder().withName("John Doe").build()));
+    }
+
+    @Test
+    public void test_nameWordsFurtherThanMaxDistance_returnsFalse() {
+        assertFalse(new FuzzyNamePredicate(List.of("jonh"), 0).test(new PersonBuilder().withName("John Doe").build()));
+        assertFalse(new FuzzyNamePredicate(List.of("jane"), 1).test(new PersonBuilder().withName("John Doe").build()));
+
+        // the whole name is not one word
+        assertFalse(new FuzzyNamePredicate(List.of("johndoe"), 1)
+                .test(new PersonBuilder().withName("John Doe").build()));
+    }
+
+    @Test
+    public void distanceTo() {
+        FuzzyNamePredicate predicate = new FuzzyNamePredicate(List.of("jonh", "smyth"), 2);
+        assertEquals(0, predicate.distanceTo(new PersonBuilder().withName("Alex Jonh").build()));
+        assertEquals(1, predicate.distanceTo(new PersonBuilder().withName("Anna Smith").build()));
+        assertEquals(2, predicate.distanceTo(new PersonBuilder().withName("Jo Smithers").build()));
+
+        // none within the maximum distance
+        assertEquals(3, predicate.distanceTo(new PersonBuilder().withName("Bernice Yu").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FuzzyNamePredicate predicate = new FuzzyNamePredicate(List.of("jonh"), 1);
+        String expected = FuzzyNamePredicate.class.getCanonicalName() + "{keywords=[jonh], maxDistance=1}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.coursebook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.coursebook.testutil.Assert.assertThrows;
+import static seedu.coursebook.testutil.TypicalPersons.ALICE;
+import static seedu.coursebook.testutil.TypicalPersons.BENSON;
+import static seedu.coursebook.testutil.TypicalPersons.CARL;
+import static seedu.coursebook.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class PersistentPersonListTest {
+
+    @Test
+    public void empty_hasNoPersons() {
+        assertTrue(PersistentPersonList.empty().isEmpty());
+        assertEquals(0, PersistentPersonList.empty().size());
+        assertEquals(Collections.emptyList(), PersistentPersonList.empty().toList());
+    }
+
+    @Test
+    public void of_list_preservesOrder() {
+        List<Person> persons = getTypicalPersons();
+        PersistentPersonList list = PersistentPersonList.of(persons);
+        assertEquals(persons, list.toList());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentPersonList list = PersistentPersonList.of(Arrays.asList(ALICE, BENSON));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    public void updates_leaveEarlierVersionsUnchanged() {
+        PersistentPersonList original = PersistentPersonList.of(Arrays.asList(ALICE, BENSON));
+
+        PersistentPersonList appended = original.append(CARL);
+        PersistentPersonList replaced = original.set(0, CARL);
+        PersistentPersonList removed = original.remove(0);
+        PersistentPersonList inserted = original.insert(1, CARL);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), original.toList());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), appended.toList());
+        assertEquals(Arrays.asList(CARL, BENSON), replaced.toList());
+        assertEquals(Collections.singletonList(BENSON), removed.toList());
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), inserted.toList());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Person> pool = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            pool.add(new PersonBuilder().withName("Person " + i).build());
+        }
+
+        List<Person> expected = new ArrayList<>();
+        PersistentPersonList actual = PersistentPersonList.empty();
+        for (int step = 0; step < 2000; step++) {
+            Person person = pool.get(random.nextInt(pool.size()));
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, person);
+                actual = actual.insert(index, person);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, person);
+                actual = actual.set(index, person);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual.toList());
+    }
+
+    @Test
+    public void countPersonsNotIn_randomUpdates_matchesIdentityComparison() {
+        Random random = new Random(7);
+        List<Person> pool = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            pool.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        // every added person is new, as a person is never in a course book twice
+        int nextPerson = 100;
+        PersistentPersonList older = PersistentPersonList.of(pool.subList(0, nextPerson));
+        for (int step = 0; step < 200; step++) {
+            PersistentPersonList newer = older;
+            for (int update = random.nextInt(4); update >= 0; update--) {
+                Person person = pool.get(nextPerson++);
+                int operation = newer.isEmpty() ? 0 : random.nextInt(3);
+                if (operation == 0) {
+                    newer = newer.insert(random.nextInt(newer.size() + 1), person);
+                } else if (operation == 1) {
+                    newer = newer.set(random.nextInt(newer.size()), person);
+                } else {
+                    newer = newer.remove(random.nextInt(newer.size()));
+                }
+            }
+            assertEquals(countByIdentity(older, newer), older.countPersonsNotIn(newer));
+            assertEquals(countByIdentity(newer, older), newer.countPersonsNotIn(older));
+            older = newer;
+        }
+
+        // unrelated lists share no nodes
+        assertEquals(2, PersistentPersonList.of(Arrays.asList(ALICE, BENSON))
+                .countPersonsNotIn(PersistentPersonList.of(Arrays.asList(CARL))));
+        assertEquals(0, PersistentPersonList.of(Arrays.asList(ALICE, BENSON))
+                .countPersonsNotIn(PersistentPersonList.of(Arrays.asList(BENSON, ALICE))));
+    }
+
+    private static int countByIdentity(PersistentPersonList persons, PersistentPersonList other) {
+        int count = 0;
+        for (Person person : persons) {
+            boolean isInOther = false;
+            for (Person otherPerson : other) {
+                isInOther |= person == otherPerson;
+            }
+            count += isInOther ? 0 : 1;
+        }
+        return count;
+    }
+
+    @Test
+    public void equals() {
+        PersistentPersonList list = PersistentPersonList.of(Arrays.asList(ALICE, BENSON));
+
+        // same values -> returns true
+        assertTrue(list.equals(PersistentPersonList.empty().append(ALICE).append(BENSON)));
+        assertEquals(list.hashCode(), PersistentPersonList.empty().append(ALICE).append(BENSON).hashCode());
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different order -> returns false
+        assertNotEquals(list, PersistentPersonList.of(Arrays.asList(BENSON, ALICE)));
+
+        // different size -> returns false
+        assertNotEquals(list, list.append(CARL));
+    }
+}
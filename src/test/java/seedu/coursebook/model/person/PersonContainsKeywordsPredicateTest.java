@@ -189,6 +189,36 @@ public class PersonContainsKeywordsPredicateTest {
                 .withEmail("alice@example.com").withAddress("Main Street").withTags("friends").build()));
     }
 
+    @Test
+    public void test_nullAndBlankKeywords_ignored() {
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                null, Arrays.asList(null, " "), Collections.emptyList(), null, Collections.singletonList("FRIENDS"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").withTags().build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice").withTags("friends").build()));
+    }
+
+    @Test
+    public void refines() {
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(
+                List.of("al", "be"), Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), List.of("fr"));
+
+        // keywords typed further, or the same keywords -> returns true
+        assertTrue(new PersonContainsKeywordsPredicate(List.of("ALICE", "be"), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), List.of("fri")).refines(predicate));
+        assertTrue(predicate.refines(predicate));
+
+        // keyword added to a field, or a field added -> returns false
+        assertFalse(new PersonContainsKeywordsPredicate(List.of("al", "be", "ca"), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), List.of("fr")).refines(predicate));
+        assertFalse(new PersonContainsKeywordsPredicate(List.of("al", "be"), List.of("9"),
+                Collections.emptyList(), Collections.emptyList(), List.of("fr")).refines(predicate));
+
+        // keyword changed -> returns false
+        assertFalse(new PersonContainsKeywordsPredicate(List.of("ax", "be"), Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), List.of("fr")).refines(predicate));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> nameKeywords = List.of("keyword1", "keyword2");
@@ -0,0 +1,170 @@
+package seedu.coursebook.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.coursebook.testutil.TypicalPersons.ALICE;
+import static seedu.coursebook.testutil.TypicalPersons.BENSON;
+import static seedu.coursebook.testutil.TypicalPersons.ELLE;
+import static seedu.coursebook.testutil.TypicalPersons.HOON;
+import static seedu.coursebook.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(getTypicalPersons());
+    private final PersonSearchIndex index = new PersonSearchIndex(persons);
+
+    public PersonSearchIndexTest() {
+        persons.addListener(index::handleChange);
+    }
+
+    @Test
+    public void narrow_shortKeyword_returnsSamePredicate() {
+        PersonContainsKeywordsPredicate predicate = createPredicate(List.of("alice"), List.of("12"));
+        assertSame(predicate, index.narrow(predicate));
+    }
+
+    @Test
+    public void narrow_variousKeywords_matchesSameAsPredicate() {
+        assertNarrowedMatchesSameAsPredicate(createPredicate(List.of("ALI", "meier"), List.of()));
+        assertNarrowedMatchesSameAsPredicate(createPredicate(List.of(), List.of("friends")));
+        assertNarrowedMatchesSameAsPredicate(createPredicate(List.of("nobody"), List.of()));
+        assertNarrowedMatchesSameAsPredicate(new PersonContainsKeywordsPredicate(List.of(), List.of("9482"),
+                List.of("example.com"), List.of("street"), List.of()));
+    }
+
+    @Test
+    public void handleChange_listChangesAfterSearch_narrowedPredicateStaysEquivalent() {
+        PersonContainsKeywordsPredicate predicate = createPredicate(List.of("alice", "hoon"), List.of());
+        FilteredList<Person> filtered = new FilteredList<>(persons, index.narrow(predicate));
+        assertEquals(List.of(ALICE), filtered);
+
+        persons.add(HOON);
+        Person editedBenson = new PersonBuilder(BENSON).withName("Alice Benson").build();
+        persons.set(persons.indexOf(BENSON), editedBenson);
+        persons.remove(ALICE);
+        assertEquals(List.of(editedBenson, HOON), filtered);
+
+        // the index is updated for later searches
+        assertNarrowedMatchesSameAsPredicate(predicate);
+        assertNarrowedMatchesSameAsPredicate(createPredicate(List.of("benson"), List.of()));
+    }
+
+    @Test
+    public void handleChange_mostOfListReplaced_narrowedPredicateStopsNarrowing() {
+        PersonContainsKeywordsPredicate predicate = createPredicate(List.of("hoon"), List.of());
+        FilteredList<Person> filtered = new FilteredList<>(persons, index.narrow(predicate));
+        assertEquals(List.of(), filtered);
+
+        persons.setAll(HOON, ALICE);
+        assertEquals(List.of(HOON), filtered);
+        persons.add(new PersonBuilder().withName("Hoon Junior").withPhone("99999999")
+                .withEmail("junior@example.com").build());
+        assertEquals(2, filtered.size());
+
+        // the index is rebuilt for later searches
+        assertNarrowedMatchesSameAsPredicate(predicate);
+    }
+
+    @Test
+    public void narrow_manyPersons_matchesSameAsPredicate() {
+        List<Person> manyPersons = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            manyPersons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com").withTags("friends", "Group" + i % 100).build());
+        }
+        persons.setAll(manyPersons);
+
+        Random random = new Random(0);
+        for (int i = 0; i < 50; i++) {
+            assertNarrowedMatchesSameAsPredicate(createPredicate(List.of("son " + random.nextInt(2_000)), List.of()));
+        }
+        assertNarrowedMatchesSameAsPredicate(createPredicate(List.of("son 1"), List.of("group7")));
+    }
+
+    @Test
+    public void narrow_fuzzyKeywords_matchesSameAsPredicate() {
+        assertNarrowedMatchesSameAsPredicate(new FuzzyNamePredicate(List.of("meyer"), 0));
+        assertNarrowedMatchesSameAsPredicate(new FuzzyNamePredicate(List.of("meyer"), 1));
+        assertNarrowedMatchesSameAsPredicate(new FuzzyNamePredicate(List.of("alcie", "kunz"), 2));
+        assertNarrowedMatchesSameAsPredicate(new FuzzyNamePredicate(List.of("xy"), 3));
+        assertNarrowedMatchesSameAsPredicate(new FuzzyNamePredicate(List.of("nobody"), 2));
+    }
+
+    @Test
+    public void handleChange_listChangesAfterFuzzySearch_narrowedPredicateStaysEquivalent() {
+        FuzzyNamePredicate predicate = new FuzzyNamePredicate(List.of("meyer"), 1);
+        FilteredList<Person> filtered = new FilteredList<>(persons, index.narrow(predicate));
+        assertEquals(3, filtered.size());
+
+        persons.add(HOON);
+        persons.remove(ELLE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Mayer").build();
+        persons.set(persons.indexOf(ALICE), editedAlice);
+        assertEquals(persons.stream().filter(predicate).collect(Collectors.toList()), filtered);
+
+        // the index is updated for later searches, including both kinds of search
+        assertNarrowedMatchesSameAsPredicate(predicate);
+        assertNarrowedMatchesSameAsPredicate(new FuzzyNamePredicate(List.of("elle"), 0));
+        assertNarrowedMatchesSameAsPredicate(createPredicate(List.of("mayer"), List.of()));
+        persons.remove(editedAlice);
+        assertNarrowedMatchesSameAsPredicate(predicate);
+        assertNarrowedMatchesSameAsPredicate(createPredicate(List.of("mayer"), List.of()));
+    }
+
+    @Test
+    public void narrow_fuzzyManyPersons_matchesSameAsPredicate() {
+        Random random = new Random(0);
+        List<Person> manyPersons = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            manyPersons.add(new PersonBuilder().withName(randomName(random) + " " + randomName(random))
+                    .withPhone(String.valueOf(80_000_000 + i)).withEmail("person" + i + "@example.com").build());
+        }
+        persons.setAll(manyPersons);
+
+        for (int i = 0; i < 30; i++) {
+            assertNarrowedMatchesSameAsPredicate(new FuzzyNamePredicate(List.of(randomName(random)), 1 + i % 2));
+        }
+    }
+
+    private static String randomName(Random random) {
+        char[] chars = new char[4 + random.nextInt(5)];
+        chars[0] = (char) ('A' + random.nextInt(26));
+        for (int i = 1; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    private void assertNarrowedMatchesSameAsPredicate(PersonContainsKeywordsPredicate predicate) {
+        assertNarrowedMatchesSameAsPredicate(predicate, index.narrow(predicate));
+    }
+
+    private void assertNarrowedMatchesSameAsPredicate(FuzzyNamePredicate predicate) {
+        assertNarrowedMatchesSameAsPredicate(predicate, index.narrow(predicate));
+    }
+
+    private void assertNarrowedMatchesSameAsPredicate(Predicate<Person> predicate, Predicate<Person> narrowed) {
+        assertEquals(persons.stream().filter(predicate).collect(Collectors.toList()),
+                persons.stream().filter(narrowed).collect(Collectors.toList()));
+    }
+
+    private static PersonContainsKeywordsPredicate createPredicate(List<String> nameKeywords,
+            List<String> tagKeywords) {
+        return new PersonContainsKeywordsPredicate(nameKeywords, Collections.emptyList(), Collections.emptyList(),
+                Collections.emptyList(), tagKeywords);
+    }
+}
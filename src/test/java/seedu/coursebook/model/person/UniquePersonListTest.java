@@ -8,10 +8,14 @@ import static seedu.coursebook.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.coursebook.testutil.Assert.assertThrows;
 import static seedu.coursebook.testutil.TypicalPersons.ALICE;
 import static seedu.coursebook.testutil.TypicalPersons.BOB;
+import static seedu.coursebook.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +56,32 @@ public class UniquePersonListTest {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
     }
 
+    @Test
+    public void add_personWithSameEmailOnly_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person sameEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(sameEmail));
+    }
+
+    @Test
+    public void add_personWithSamePhoneOnly_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person samePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(samePhone));
+    }
+
+    @Test
+    public void add_manyPersons_indexesEveryIdentity() {
+        List<Person> persons = generatePersons(5_000);
+        persons.forEach(uniquePersonList::add);
+
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(persons.stream().allMatch(uniquePersonList::contains));
+        Person samePhoneAsLast = new PersonBuilder().withName("Someone Else").withEmail("someone@example.com")
+                .withPhone(persons.get(persons.size() - 1).getPhone().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(samePhoneAsLast));
+    }
+
     @Test
     public void add_duplicatePerson_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -102,6 +132,23 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonClashesWithOtherPersonEmail_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(BOB.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_editedPersonChangesIdentity_oldIdentityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +174,13 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_identityReleased() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -141,6 +195,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_uniquePersonList_indexesReplaced() {
+        uniquePersonList.add(ALICE);
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(BOB);
+        uniquePersonList.setPersons(replacement);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((List<Person>) null));
@@ -156,12 +220,82 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_replacementMap_replacesOnlyMappedPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB + " 2").build();
+        Map<Person, Person> replacements = new IdentityHashMap<>();
+        replacements.put(BOB, editedBob);
+
+        uniquePersonList.setPersons(replacements);
+
+        assertEquals(Arrays.asList(ALICE, editedBob, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(editedBob));
+        assertEquals(Arrays.asList(ALICE, editedBob, CARL), uniquePersonList.snapshot().toList());
+    }
+
+    @Test
+    public void setPersons_replacementClashesWithOtherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Map<Person, Person> replacements = new IdentityHashMap<>();
+        replacements.put(ALICE, new PersonBuilder(ALICE).withName("Alicia").build());
+        replacements.put(BOB, new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build());
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(replacements));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_replacementsClashWithEachOther_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        Map<Person, Person> replacements = new IdentityHashMap<>();
+        replacements.put(ALICE, new PersonBuilder(ALICE).withPhone("91234567").build());
+        replacements.put(CARL, new PersonBuilder(CARL).withPhone("91234567").build());
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(replacements));
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(new PersonBuilder().withName("Someone Else")
+                .withEmail("someone@example.com").withPhone(ALICE.getPhone().value).build()));
+        assertFalse(uniquePersonList.contains(new PersonBuilder().withName("Someone Else")
+                .withEmail("someone@example.com").withPhone("91234567").build()));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findIdentityConflicts_duplicatePersons_reportsEveryConflict() {
+        Person sameEmailAsAlice = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        Person samePhoneAsAlice = new PersonBuilder(CARL).withPhone(ALICE.getPhone().value).build();
+        List<Person> persons = Arrays.asList(ALICE, sameEmailAsAlice, samePhoneAsAlice);
+
+        List<IdentityConflict> expectedConflicts = Arrays.asList(
+                new IdentityConflict(0, 1, "email", ALICE.getEmail().value),
+                new IdentityConflict(0, 2, "phone", ALICE.getPhone().value));
+        assertEquals(expectedConflicts, UniquePersonList.findIdentityConflicts(persons));
+        assertThrows(DuplicatePersonException.class, "Operation would result in duplicate persons:\n"
+                + expectedConflicts.get(0) + "\n" + expectedConflicts.get(1), () ->
+                uniquePersonList.setPersons(persons));
+    }
+
+    @Test
+    public void findIdentityConflicts_uniquePersons_returnsEmptyList() {
+        assertTrue(UniquePersonList.findIdentityConflicts(Arrays.asList(ALICE, BOB, CARL)).isEmpty());
+    }
+
+    @Test
+    public void findIdentityConflicts_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> UniquePersonList.findIdentityConflicts(null));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +306,19 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    /**
+     * Returns {@code count} persons whose names, phones and emails are all distinct.
+     */
+    private static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(10_000_000 + i))
+                    .withEmail("person" + i + "@example.com")
+                    .build());
+        }
+        return persons;
+    }
 }
@@ -0,0 +1,85 @@
+package seedu.coursebook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.coursebook.testutil.Assert.assertThrows;
+import static seedu.coursebook.testutil.TypicalPersons.getTypicalCourseBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.coursebook.model.CourseBook;
+import seedu.coursebook.model.ReadOnlyCourseBook;
+
+public class AsyncCourseBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void requestSave_null_throwsNullPointerException() {
+        AsyncCourseBookSaver saver = new AsyncCourseBookSaver(new JsonCourseBookStorage(testFolder.resolve("a.json")));
+        assertThrows(NullPointerException.class, () -> saver.requestSave(null));
+    }
+
+    @Test
+    public void requestSave_whileSaving_onlyLatestIsSavedNext() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveAllowed = new CountDownLatch(1);
+        List<ReadOnlyCourseBook> saved = new CopyOnWriteArrayList<>();
+        JsonCourseBookStorage storage = new JsonCourseBookStorage(testFolder.resolve("CourseBook.json")) {
+            @Override
+            public void saveCourseBook(ReadOnlyCourseBook courseBook, Path filePath) throws IOException {
+                firstSaveStarted.countDown();
+                try {
+                    firstSaveAllowed.await();
+                } catch (InterruptedException ie) {
+                    throw new IOException(ie);
+                }
+                saved.add(courseBook);
+            }
+        };
+        AsyncCourseBookSaver saver = new AsyncCourseBookSaver(storage);
+
+        CourseBook first = new CourseBook();
+        CourseBook second = new CourseBook();
+        CourseBook latest = getTypicalCourseBook();
+        saver.requestSave(first);
+        assertTrue(firstSaveStarted.await(10, TimeUnit.SECONDS));
+        saver.requestSave(second);
+        saver.requestSave(latest);
+        firstSaveAllowed.countDown();
+        saver.flush();
+
+        assertEquals(2, saved.size());
+        assertSame(first, saved.get(0));
+        assertSame(latest, saved.get(1));
+    }
+
+    @Test
+    public void requestSave_storageFails_notifiesFailureListeners() {
+        IOException failure = new IOException("disk full");
+        JsonCourseBookStorage storage = new JsonCourseBookStorage(testFolder.resolve("CourseBook.json")) {
+            @Override
+            public void saveCourseBook(ReadOnlyCourseBook courseBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        AsyncCourseBookSaver saver = new AsyncCourseBookSaver(storage);
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        saver.addFailureListener(failures::add);
+
+        saver.requestSave(new CourseBook());
+        saver.flush();
+
+        assertEquals(List.of(failure), failures);
+    }
+}
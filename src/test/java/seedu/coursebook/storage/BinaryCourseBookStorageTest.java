@@ -0,0 +1,98 @@
+package seedu.coursebook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.coursebook.testutil.Assert.assertThrows;
+import static seedu.coursebook.testutil.TypicalPersons.HOON;
+import static seedu.coursebook.testutil.TypicalPersons.getTypicalCourseBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.coursebook.commons.exceptions.DataLoadingException;
+import seedu.coursebook.model.CourseBook;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class BinaryCourseBookStorageTest {
+    private static final Path TYPICAL_PERSONS_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableCourseBookTest", "typicalPersonsCourseBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveCourseBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.bin");
+        BinaryCourseBookStorage storage = new BinaryCourseBookStorage(filePath);
+        CourseBook original = getTypicalCourseBook();
+        storage.saveCourseBook(original);
+        assertEquals(original, new CourseBook(storage.readCourseBook().get()));
+
+        original.addPerson(new PersonBuilder(HOON).withBirthday("29-02-2000").withFavourite(true).build());
+        storage.saveCourseBook(original);
+        assertEquals(original, new CourseBook(storage.readCourseBook().get()));
+        assertTrue(Files.size(filePath) * 2 < Files.size(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void readCourseBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.bin");
+        new BinaryCourseBookStorage(filePath).saveCourseBook(getTypicalCourseBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // A flipped bit fails the checksum
+        byte[] flipped = bytes.clone();
+        flipped[bytes.length / 2] ^= 1;
+        Files.write(filePath, flipped);
+        assertThrows(DataLoadingException.class, () -> new BinaryCourseBookStorage(filePath).readCourseBook());
+
+        // A cut short file ends before its checksum
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 10));
+        assertThrows(DataLoadingException.class, () -> new BinaryCourseBookStorage(filePath).readCourseBook());
+
+        // An unknown version is refused
+        byte[] newerVersion = bytes.clone();
+        newerVersion[4] = (byte) (BinaryCourseBookStorage.VERSION + 1);
+        Files.write(filePath, newerVersion);
+        assertThrows(DataLoadingException.class, () -> new BinaryCourseBookStorage(filePath).readCourseBook());
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonPath = testFolder.resolve("CourseBook.json");
+        Path binaryPath = testFolder.resolve("CourseBook.bin");
+        Path convertedPath = testFolder.resolve("Converted.json");
+        Files.copy(TYPICAL_PERSONS_FILE, jsonPath);
+        new JsonCourseBookStorage(jsonPath).saveCourseBook(new JsonCourseBookStorage(jsonPath).readCourseBook().get());
+
+        CourseBookFileConverter.convert(jsonPath, new BinaryCourseBookStorage(binaryPath));
+        CourseBookFileConverter.convert(binaryPath, new JsonCourseBookStorage(convertedPath));
+
+        assertEquals(getTypicalCourseBook(), new CourseBook(new BinaryCourseBookStorage(binaryPath)
+                .readCourseBook().get()));
+        assertEquals(Files.readString(jsonPath), Files.readString(convertedPath));
+        assertThrows(DataLoadingException.class, () ->
+                CourseBookFileConverter.convert(testFolder.resolve("Missing.json"),
+                        new BinaryCourseBookStorage(binaryPath)));
+    }
+
+    @Test
+    public void saveCourseBook_switchingFormat_convertsOnNextSave() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        CourseBook original = getTypicalCourseBook();
+        new JsonCourseBookStorage(filePath).saveCourseBook(original);
+
+        BinaryCourseBookStorage binaryStorage = new BinaryCourseBookStorage(filePath);
+        CourseBook readBack = new CourseBook(binaryStorage.readCourseBook().get());
+        assertEquals(original, readBack);
+        binaryStorage.saveCourseBook(readBack);
+        assertFalse(Files.readAllBytes(filePath)[0] == '{');
+        assertEquals(original, new CourseBook(new JsonCourseBookStorage(filePath).readCourseBook().get()));
+    }
+}
@@ -0,0 +1,244 @@
+package seedu.coursebook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.coursebook.testutil.Assert.assertThrows;
+import static seedu.coursebook.testutil.TypicalPersons.ALICE;
+import static seedu.coursebook.testutil.TypicalPersons.AMY;
+import static seedu.coursebook.testutil.TypicalPersons.BENSON;
+import static seedu.coursebook.testutil.TypicalPersons.BOB;
+import static seedu.coursebook.testutil.TypicalPersons.CARL;
+import static seedu.coursebook.testutil.TypicalPersons.HOON;
+import static seedu.coursebook.testutil.TypicalPersons.IDA;
+import static seedu.coursebook.testutil.TypicalPersons.getTypicalCourseBook;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.coursebook.commons.exceptions.DataLoadingException;
+import seedu.coursebook.logic.commands.ThemeCommand;
+import seedu.coursebook.model.CourseBook;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class JournalCourseBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCourseBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalCourseBookStorage(testFolder.resolve("Missing.json")).readCourseBook().isPresent());
+    }
+
+    @Test
+    public void saveCourseBook_null_throwsNullPointerException() {
+        JournalCourseBookStorage storage = new JournalCourseBookStorage(testFolder.resolve("CourseBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveCourseBook(null));
+    }
+
+    @Test
+    public void readAndSaveCourseBook_severalSaves_readsBackLatest() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        JournalCourseBookStorage storage = new JournalCourseBookStorage(filePath);
+        CourseBook original = getTypicalCourseBook();
+        storage.saveCourseBook(original);
+
+        original.addPerson(HOON);
+        storage.saveCourseBook(original);
+        original.removePerson(ALICE);
+        original.setPerson(CARL, new PersonBuilder(CARL).withPhone("91234567").build());
+        storage.saveCourseBook(original);
+        original.setCurrentTheme(ThemeCommand.Theme.TREE);
+        storage.saveCourseBook(original);
+
+        assertEquals(original, new CourseBook(storage.readCourseBook().get()));
+        assertEquals(original, new CourseBook(new JournalCourseBookStorage(filePath).readCourseBook().get()));
+    }
+
+    @Test
+    public void saveCourseBook_afterRead_appendsOnlyTheEdit() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        CourseBook original = getTypicalCourseBook();
+        new JournalCourseBookStorage(filePath).saveCourseBook(original);
+        String snapshot = Files.readString(filePath);
+        long journalSize = Files.size(JournalCourseBookStorage.getJournalFilePath(filePath));
+
+        // A fresh storage picks up from what it reads, as it would after a restart
+        JournalCourseBookStorage storage = new JournalCourseBookStorage(filePath);
+        CourseBook readBack = new CourseBook(storage.readCourseBook().get());
+        readBack.addPerson(IDA);
+        storage.saveCourseBook(readBack);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        long appended = Files.size(JournalCourseBookStorage.getJournalFilePath(filePath)) - journalSize;
+        assertTrue(appended > 0 && appended < 512, "Appended " + appended + " bytes");
+        assertEquals(readBack, new CourseBook(new JournalCourseBookStorage(filePath).readCourseBook().get()));
+    }
+
+    @Test
+    public void saveCourseBook_nothingChanged_writesNothing() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        JournalCourseBookStorage storage = new JournalCourseBookStorage(filePath);
+        CourseBook original = getTypicalCourseBook();
+        storage.saveCourseBook(original);
+        long journalSize = Files.size(JournalCourseBookStorage.getJournalFilePath(filePath));
+
+        storage.saveCourseBook(original);
+        assertEquals(journalSize, Files.size(JournalCourseBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void readCourseBook_journalTruncatedMidRecord_readsLastCompleteSave() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        Path journalPath = JournalCourseBookStorage.getJournalFilePath(filePath);
+        JournalCourseBookStorage storage = new JournalCourseBookStorage(filePath);
+        CourseBook original = getTypicalCourseBook();
+        storage.saveCourseBook(original);
+        original.addPerson(AMY);
+        storage.saveCourseBook(original);
+        CourseBook lastComplete = new CourseBook(original);
+        long lastCompleteSize = Files.size(journalPath);
+        original.removePerson(BENSON);
+        original.addPerson(BOB);
+        storage.saveCourseBook(original);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // Cut inside the length, inside the checksum and inside the payload of the last record
+        for (long cut : new long[] {lastCompleteSize + 2, lastCompleteSize + 6, journal.length - 1}) {
+            Files.write(journalPath, journal);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(cut);
+            }
+
+            JournalCourseBookStorage restarted = new JournalCourseBookStorage(filePath);
+            CourseBook readBack = new CourseBook(restarted.readCourseBook().get());
+            assertEquals(lastComplete, readBack);
+
+            // Saving after the crash replaces the incomplete record
+            readBack.addPerson(HOON);
+            restarted.saveCourseBook(readBack);
+            assertEquals(readBack, new CourseBook(new JournalCourseBookStorage(filePath).readCourseBook().get()));
+        }
+    }
+
+    @Test
+    public void readCourseBook_journalOfOtherSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        JournalCourseBookStorage storage = new JournalCourseBookStorage(filePath);
+        CourseBook original = getTypicalCourseBook();
+        storage.saveCourseBook(original);
+        original.addPerson(AMY);
+        storage.saveCourseBook(original);
+
+        // As if the snapshot was replaced but a crash left the old journal behind
+        CourseBook replacement = new CourseBook();
+        replacement.addPerson(BOB);
+        new JsonCourseBookStorage(filePath).saveCourseBook(replacement);
+
+        assertEquals(replacement, new CourseBook(new JournalCourseBookStorage(filePath).readCourseBook().get()));
+    }
+
+    @Test
+    public void readCourseBook_invalidSnapshot_readsBackupWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        JournalCourseBookStorage storage = new JournalCourseBookStorage(new JsonCourseBookStorage(filePath, false, 1));
+        CourseBook original = getTypicalCourseBook();
+        storage.saveCourseBook(original);
+        CourseBook backedUp = new CourseBook(original);
+        original.addPerson(AMY);
+        storage.saveCourseBook(original);
+
+        // Compacting again moves the first snapshot to the backup
+        new JsonCourseBookStorage(filePath, false, 1).saveCourseBook(original);
+        Files.writeString(filePath, "{");
+
+        JournalCourseBookStorage restarted =
+                new JournalCourseBookStorage(new JsonCourseBookStorage(filePath, false, 1));
+        CourseBook readBack = new CourseBook(restarted.readCourseBook().get());
+        assertEquals(backedUp, readBack);
+
+        readBack.addPerson(BOB);
+        restarted.saveCourseBook(readBack);
+        assertEquals(readBack, new CourseBook(new JournalCourseBookStorage(filePath).readCourseBook().get()));
+    }
+
+    @Test
+    public void readCourseBook_recordDoesNotFit_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        Path journalPath = JournalCourseBookStorage.getJournalFilePath(filePath);
+        JournalCourseBookStorage storage = new JournalCourseBookStorage(filePath);
+        CourseBook original = getTypicalCourseBook();
+        storage.saveCourseBook(original);
+        original.removePerson(ALICE);
+        storage.saveCourseBook(original);
+
+        // Rewrite the removal as a complete, correctly checksummed record that removes past the end of the list
+        byte[] journal = Files.readAllBytes(journalPath);
+        ByteBuffer header = ByteBuffer.wrap(journal);
+        int headerLength = 2 * Integer.BYTES + header.getInt();
+        String payload = new String(journal, headerLength + 2 * Integer.BYTES,
+                journal.length - headerLength - 2 * Integer.BYTES, StandardCharsets.UTF_8);
+        assertTrue(payload.contains("\"at\":0"));
+        byte[] tampered = payload.replace("\"at\":0", "\"at\":99").getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(tampered);
+        Files.write(journalPath, ByteBuffer.allocate(headerLength + 2 * Integer.BYTES + tampered.length)
+                .put(journal, 0, headerLength)
+                .putInt(tampered.length)
+                .putInt((int) crc.getValue())
+                .put(tampered)
+                .array());
+
+        assertThrows(DataLoadingException.class, () -> new JournalCourseBookStorage(filePath).readCourseBook());
+    }
+
+    @Test
+    public void saveCourseBook_manyEdits_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        Path journalPath = JournalCourseBookStorage.getJournalFilePath(filePath);
+        JournalCourseBookStorage storage = new JournalCourseBookStorage(filePath);
+        CourseBook original = getTypicalCourseBook();
+        storage.saveCourseBook(original);
+
+        List<Long> journalSizes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com").build());
+            storage.saveCourseBook(original);
+            journalSizes.add(Files.size(journalPath));
+        }
+
+        long maxJournalSize = journalSizes.stream().mapToLong(Long::longValue).max().getAsLong();
+        assertTrue(maxJournalSize <= Math.max(JournalCourseBookStorage.MIN_COMPACTION_BYTES, Files.size(filePath))
+                + 1024);
+        assertTrue(journalSizes.get(journalSizes.size() - 1) < maxJournalSize);
+        assertEquals(original, new CourseBook(new JournalCourseBookStorage(filePath).readCourseBook().get()));
+    }
+
+    @Test
+    public void diff_reorderedPersons_replaysToSameList() throws Exception {
+        List<Person> saved = new ArrayList<>(getTypicalCourseBook().getPersonList());
+        List<Person> current = new ArrayList<>(saved);
+        current.add(0, current.remove(current.size() - 1));
+        current.remove(3);
+        current.add(4, AMY);
+
+        List<Person> replayed = new ArrayList<>(saved);
+        for (JsonAdaptedPersonListEdit edit : JournalCourseBookStorage.diff(saved, current)) {
+            edit.applyTo(replayed);
+        }
+        assertEquals(current, replayed);
+    }
+}
@@ -2,25 +2,41 @@ package seedu.coursebook.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.coursebook.testutil.Assert.assertThrows;
 import static seedu.coursebook.testutil.TypicalPersons.ALICE;
+import static seedu.coursebook.testutil.TypicalPersons.AMY;
+import static seedu.coursebook.testutil.TypicalPersons.GEORGE;
 import static seedu.coursebook.testutil.TypicalPersons.HOON;
 import static seedu.coursebook.testutil.TypicalPersons.IDA;
 import static seedu.coursebook.testutil.TypicalPersons.getTypicalCourseBook;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.coursebook.commons.exceptions.DataLoadingException;
+import seedu.coursebook.commons.util.JsonUtil;
 import seedu.coursebook.model.CourseBook;
 import seedu.coursebook.model.ReadOnlyCourseBook;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.testutil.PersonBuilder;
 
 public class JsonCourseBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonCourseBookStorageTest");
+    private static final Path TYPICAL_PERSONS_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableCourseBookTest", "typicalPersonsCourseBook.json");
 
     @TempDir
     public Path testFolder;
@@ -86,6 +102,164 @@ public class JsonCourseBookStorageTest {
 
     }
 
+    @Test
+    public void readCourseBook_fileWithOtherFields_skipsThem() throws Exception {
+        ReadOnlyCourseBook readBack = new JsonCourseBookStorage(TYPICAL_PERSONS_FILE).readCourseBook().get();
+        assertEquals(getTypicalCourseBook(), new CourseBook(readBack));
+    }
+
+    @Test
+    public void saveCourseBook_prettyPrinted_sameAsSerializedDocument() throws Exception {
+        Path filePath = testFolder.resolve("PrettyCourseBook.json");
+        CourseBook original = getTypicalCourseBook();
+        new JsonCourseBookStorage(filePath).saveCourseBook(original);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableCourseBook(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void saveCourseBook_compact_writesOneLineThatReadsBack() throws Exception {
+        Path filePath = testFolder.resolve("CompactCourseBook.json");
+        CourseBook original = getTypicalCourseBook();
+        JsonCourseBookStorage compactStorage = new JsonCourseBookStorage(filePath, true);
+        compactStorage.saveCourseBook(original);
+
+        String content = Files.readString(filePath);
+        assertFalse(content.contains("\n"));
+        assertTrue(content.length() < JsonUtil.toJsonString(new JsonSerializableCourseBook(original)).length());
+        assertEquals(original, new CourseBook(compactStorage.readCourseBook().get()));
+    }
+
+    @Test
+    public void saveCourseBook_withBackups_keepsPreviousGenerations() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        JsonCourseBookStorage storage = new JsonCourseBookStorage(filePath, false, 2);
+        List<String> generations = new ArrayList<>();
+        CourseBook original = getTypicalCourseBook();
+        for (Person person : List.of(HOON, IDA, AMY)) {
+            original.addPerson(person);
+            storage.saveCourseBook(original);
+            generations.add(Files.readString(filePath));
+        }
+
+        assertEquals(generations.get(2), Files.readString(filePath));
+        assertEquals(generations.get(1), Files.readString(JsonCourseBookStorage.getBackupFilePath(filePath, 1)));
+        assertEquals(generations.get(0), Files.readString(JsonCourseBookStorage.getBackupFilePath(filePath, 2)));
+        assertFalse(Files.exists(JsonCourseBookStorage.getBackupFilePath(filePath, 3)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(3, files.count());
+        }
+    }
+
+    @Test
+    public void readCourseBook_invalidDataFile_readsNewestValidBackup() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        JsonCourseBookStorage storage = new JsonCourseBookStorage(filePath, false, 2);
+        CourseBook original = getTypicalCourseBook();
+        storage.saveCourseBook(original);
+        CourseBook olderGeneration = new CourseBook(original);
+        original.addPerson(HOON);
+        storage.saveCourseBook(original);
+        CourseBook newerGeneration = new CourseBook(original);
+        original.addPerson(IDA);
+        storage.saveCourseBook(original);
+
+        // As if a crash cut the data file short
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.substring(0, content.length() / 2));
+        assertEquals(newerGeneration, new CourseBook(storage.readCourseBook().get()));
+
+        Files.delete(filePath);
+        Files.writeString(JsonCourseBookStorage.getBackupFilePath(filePath, 1), "{");
+        assertEquals(olderGeneration, new CourseBook(storage.readCourseBook().get()));
+
+        Files.writeString(JsonCourseBookStorage.getBackupFilePath(filePath, 2), "{");
+        assertFalse(storage.readCourseBook().isPresent());
+        Files.writeString(filePath, "{");
+        assertThrows(DataLoadingException.class, () -> storage.readCourseBook());
+    }
+
+    @Test
+    public void saveCourseBook_failsPartWay_keepsPreviousFile() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        JsonCourseBookStorage storage = new JsonCourseBookStorage(filePath, false, 2);
+        CourseBook original = getTypicalCourseBook();
+        storage.saveCourseBook(original);
+        String saved = Files.readString(filePath);
+
+        CourseBook failing = new CourseBook(original) {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return FXCollections.observableList(new ArrayList<>(super.getPersonList()) {
+                    @Override
+                    public Person get(int index) {
+                        if (index == 3) {
+                            throw new UncheckedIOException(new IOException("disk full"));
+                        }
+                        return super.get(index);
+                    }
+                });
+            }
+        };
+        assertThrows(UncheckedIOException.class, () -> storage.saveCourseBook(failing));
+
+        assertEquals(saved, Files.readString(filePath));
+        assertFalse(Files.exists(JsonCourseBookStorage.getBackupFilePath(filePath, 1)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void saveCourseBook_afterEdits_sameAsSavingAfresh() throws Exception {
+        for (boolean isCompact : new boolean[] {false, true}) {
+            Path filePath = testFolder.resolve("EditedCourseBook.json");
+            Path freshPath = testFolder.resolve("FreshCourseBook.json");
+            CourseBook courseBook = getTypicalCourseBook();
+            JsonCourseBookStorage storage = new JsonCourseBookStorage(filePath, isCompact);
+            storage.saveCourseBook(courseBook);
+
+            courseBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("91234567").withFavourite(true).build());
+            courseBook.removePerson(GEORGE);
+            courseBook.addPerson(HOON);
+            storage.saveCourseBook(courseBook);
+            new JsonCourseBookStorage(freshPath, isCompact).saveCourseBook(courseBook);
+            assertEquals(Files.readString(freshPath), Files.readString(filePath));
+
+            courseBook.setPersons(new ArrayList<>());
+            storage.saveCourseBook(courseBook);
+            new JsonCourseBookStorage(freshPath, isCompact).saveCourseBook(courseBook);
+            assertEquals(Files.readString(freshPath), Files.readString(filePath));
+        }
+    }
+
+    @Test
+    public void saveCourseBook_compressed_readBackWhetherCompressedOrNot() throws Exception {
+        Path compressedPath = testFolder.resolve("CompressedCourseBook.json");
+        Path plainPath = testFolder.resolve("PlainCourseBook.json");
+        CourseBook original = getTypicalCourseBook();
+        JsonCourseBookStorage compressedStorage = new JsonCourseBookStorage(compressedPath, false, 0, 6);
+        JsonCourseBookStorage plainStorage = new JsonCourseBookStorage(plainPath);
+        compressedStorage.saveCourseBook(original);
+        plainStorage.saveCourseBook(original);
+
+        byte[] compressed = Files.readAllBytes(compressedPath);
+        assertEquals((byte) 0x1f, compressed[0]);
+        assertEquals((byte) 0x8b, compressed[1]);
+        assertTrue(compressed.length * 3 < Files.size(plainPath));
+        assertEquals(original, new CourseBook(plainStorage.readCourseBook(compressedPath).get()));
+        assertEquals(original, new CourseBook(compressedStorage.readCourseBook(plainPath).get()));
+
+        // binary data files are compressed the same way
+        Path binaryPath = testFolder.resolve("CompressedCourseBook.bin");
+        new BinaryCourseBookStorage(binaryPath, 0, 9).saveCourseBook(original);
+        assertEquals(original, new CourseBook(compressedStorage.readCourseBook(binaryPath).get()));
+
+        // a compressed file cut short fails to load
+        Files.write(compressedPath, Arrays.copyOf(compressed, compressed.length - 20));
+        assertThrows(DataLoadingException.class, () -> compressedStorage.readCourseBook());
+        assertThrows(IllegalArgumentException.class, () -> new JsonCourseBookStorage(compressedPath, false, 0, 10));
+    }
+
     @Test
     public void saveCourseBook_nullCourseBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveCourseBook(null, "SomeFile.json"));
@@ -0,0 +1,63 @@
+package seedu.coursebook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.coursebook.testutil.Assert.assertThrows;
+import static seedu.coursebook.testutil.TypicalPersons.ALICE;
+import static seedu.coursebook.testutil.TypicalPersons.BENSON;
+import static seedu.coursebook.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.coursebook.model.person.Person;
+
+public class JsonHistorySpillStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void spillAndReload_multipleRecords_success() throws Exception {
+        JsonHistorySpillStore spillStore = new JsonHistorySpillStore(testFolder.resolve("CourseBook.json"));
+        List<Person> typicalPersons = getTypicalPersons();
+
+        long first = spillStore.spill(typicalPersons);
+        long second = spillStore.spill(Arrays.asList(BENSON, ALICE));
+
+        assertEquals(testFolder.toAbsolutePath(), spillStore.getSpillFilePath().getParent());
+        assertEquals(Files.size(spillStore.getSpillFilePath()), spillStore.size());
+        assertEquals(Arrays.asList(BENSON, ALICE), spillStore.reload(second));
+        assertEquals(typicalPersons, spillStore.reload(first));
+        spillStore.close();
+    }
+
+    @Test
+    public void reload_unknownPosition_throwsIoException() throws Exception {
+        JsonHistorySpillStore spillStore = new JsonHistorySpillStore(testFolder.resolve("CourseBook.json"));
+        assertThrows(IOException.class, () -> spillStore.reload(0));
+
+        spillStore.spill(Arrays.asList(ALICE));
+        assertThrows(IOException.class, () -> spillStore.reload(spillStore.size()));
+        spillStore.close();
+    }
+
+    @Test
+    public void close_afterSpill_deletesSpillFile() throws Exception {
+        JsonHistorySpillStore spillStore = new JsonHistorySpillStore(testFolder.resolve("CourseBook.json"));
+        spillStore.spill(Arrays.asList(ALICE));
+        Path spillFilePath = spillStore.getSpillFilePath();
+        assertTrue(Files.exists(spillFilePath));
+
+        spillStore.close();
+        assertFalse(Files.exists(spillFilePath));
+        assertEquals(0, spillStore.size());
+    }
+}
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import seedu.coursebook.commons.exceptions.IllegalValueException;
 import seedu.coursebook.commons.util.JsonUtil;
 import seedu.coursebook.model.CourseBook;
+import seedu.coursebook.model.person.Email;
+import seedu.coursebook.model.person.Phone;
 import seedu.coursebook.testutil.TypicalPersons;
 
 public class JsonSerializableCourseBookTest {
@@ -20,6 +22,8 @@ public class JsonSerializableCourseBookTest {
             "typicalPersonsCourseBook.json");
     private static final Path INVALID_PERSON_FILE = Paths.get("src", "test", "data", "JsonSerializableCourseBookTest",
             "invalidPersonCourseBook.json");
+    private static final Path INVALID_PERSONS_FILE = Paths.get("src", "test", "data", "JsonSerializableCourseBookTest",
+            "invalidPersonsCourseBook.json");
     private static final Path DUPLICATE_PERSON_FILE = Paths.get("src", "test", "data", "JsonSerializableCourseBookTest",
             "duplicatePersonCourseBook.json");
 
@@ -39,12 +43,24 @@ public class JsonSerializableCourseBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyInvalidPersons_reportsEveryInvalidPerson() throws Exception {
+        JsonSerializableCourseBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSONS_FILE,
+                JsonSerializableCourseBook.class).get();
+        String expectedMessage = ParallelPersonConverter.MESSAGE_INVALID_PERSON
+                + "\nPerson 2: " + Email.MESSAGE_CONSTRAINTS
+                + "\nPerson 3: " + Phone.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
     @Test
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableCourseBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableCourseBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableCourseBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        String expectedMessage = JsonSerializableCourseBook.MESSAGE_DUPLICATE_PERSON
+                + "\nPersons 1 and 2 have the same name: Alice Pauline"
+                + "\nPersons 1 and 2 have the same phone: 94351253";
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
 }
@@ -0,0 +1,52 @@
+package seedu.coursebook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.coursebook.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.coursebook.commons.exceptions.IllegalValueException;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.model.person.Phone;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+    private static final int PERSON_COUNT = ParallelPersonConverter.CHUNK_SIZE * 3 + 7;
+
+    @Test
+    public void getPersons_manyChunks_returnsPersonsInOrder() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("person" + i + "@example.com").build();
+            persons.add(person);
+            converter.add(new JsonAdaptedPerson(person));
+        }
+        assertEquals(persons, converter.getPersons());
+    }
+
+    @Test
+    public void getPersons_invalidPersonsInDifferentChunks_reportsAllWithPositions() {
+        int lastChunkIndex = ParallelPersonConverter.CHUNK_SIZE * 3 + 2;
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            String phone = i == 0 || i == lastChunkIndex ? "+651234" : String.valueOf(80_000_000 + i);
+            converter.add(new JsonAdaptedPerson("Person " + i, phone, "person" + i + "@example.com", "Street " + i,
+                    Collections.emptyList(), Collections.emptyList(), null, false));
+        }
+        String expectedMessage = ParallelPersonConverter.MESSAGE_INVALID_PERSON
+                + "\nPerson 1: " + Phone.MESSAGE_CONSTRAINTS
+                + "\nPerson " + (lastChunkIndex + 1) + ": " + Phone.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, converter::getPersons);
+    }
+
+    @Test
+    public void getPersons_noPersons_returnsEmptyList() throws Exception {
+        assertEquals(Collections.emptyList(), new ParallelPersonConverter().getPersons());
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.coursebook.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.coursebook.testutil.Assert.assertThrows;
+import static seedu.coursebook.testutil.TypicalPersons.ALICE;
+import static seedu.coursebook.testutil.TypicalPersons.BENSON;
+import static seedu.coursebook.testutil.TypicalPersons.CARL;
+import static seedu.coursebook.testutil.TypicalPersons.HOON;
+import static seedu.coursebook.testutil.TypicalPersons.getTypicalCourseBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.coursebook.commons.exceptions.DataLoadingException;
+import seedu.coursebook.model.CourseBook;
+import seedu.coursebook.model.person.Person;
+import seedu.coursebook.testutil.PersonBuilder;
+
+public class ShardedCourseBookStorageTest {
+    private static final long GAP = ShardedCourseBookStorage.POSITION_GAP;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveCourseBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        ShardedCourseBookStorage storage = new ShardedCourseBookStorage(filePath);
+        CourseBook original = getTypicalCourseBook();
+        storage.saveCourseBook(original);
+
+        assertEquals(Set.of("CS2101", "CS2040S", ShardedCourseBookStorage.NO_COURSE_SHARD), getShardKeys(storage));
+        assertEquals(original, new CourseBook(new ShardedCourseBookStorage(filePath).readCourseBook().get()));
+
+        // persons added and edited keep their place in the course book
+        original.addPerson(HOON);
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withCourses("MA1521").build());
+        original.setPerson(CARL, new PersonBuilder(CARL).withCourses("CS2040S").build());
+        storage.saveCourseBook(original);
+        assertEquals(original, new CourseBook(new ShardedCourseBookStorage(filePath).readCourseBook().get()));
+        assertEquals(Set.of("MA1521", "CS2040S", ShardedCourseBookStorage.NO_COURSE_SHARD), getShardKeys(storage));
+    }
+
+    @Test
+    public void saveCourseBook_singleEdit_rewritesOnlyTouchedShards() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        ShardedCourseBookStorage storage = new ShardedCourseBookStorage(filePath);
+        CourseBook courseBook = getTypicalCourseBook();
+        storage.saveCourseBook(courseBook);
+        Set<String> before = getShardFileNames(storage);
+
+        // a save without changes writes nothing
+        storage.saveCourseBook(courseBook);
+        assertEquals(before, getShardFileNames(storage));
+
+        courseBook.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        storage.saveCourseBook(courseBook);
+        Set<String> after = getShardFileNames(storage);
+        Set<String> rewritten = after.stream().filter(name -> !before.contains(name)).collect(Collectors.toSet());
+        assertEquals(1, rewritten.size());
+        assertTrue(rewritten.iterator().next().startsWith("CS2040S."));
+        assertEquals(2, after.stream().filter(before::contains).count());
+
+        // a storage that read the shards also only rewrites the touched ones
+        ShardedCourseBookStorage reopened = new ShardedCourseBookStorage(filePath);
+        CourseBook readBack = new CourseBook(reopened.readCourseBook().get());
+        readBack.removePerson(ALICE);
+        reopened.saveCourseBook(readBack);
+        Set<String> afterRemoval = getShardFileNames(reopened);
+        assertEquals(2, afterRemoval.size());
+        assertTrue(after.containsAll(afterRemoval));
+        try (Stream<Path> files = Files.list(storage.getCourseBookFilePath())) {
+            assertEquals(3, files.count());
+        }
+    }
+
+    @Test
+    public void readCourseBook_noManifest_readsDataFileThenSplitsIt() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        new JsonCourseBookStorage(filePath).saveCourseBook(getTypicalCourseBook());
+
+        ShardedCourseBookStorage storage = new ShardedCourseBookStorage(filePath);
+        CourseBook readBack = new CourseBook(storage.readCourseBook().get());
+        assertEquals(getTypicalCourseBook(), readBack);
+        assertFalse(Files.exists(storage.getCourseBookFilePath()));
+
+        storage.saveCourseBook(readBack);
+        assertTrue(Files.exists(storage.getCourseBookFilePath().resolve(ShardedCourseBookStorage.MANIFEST_FILE_NAME)));
+        Files.delete(filePath);
+        assertEquals(getTypicalCourseBook(), new CourseBook(new ShardedCourseBookStorage(filePath)
+                .readCourseBook().get()));
+    }
+
+    @Test
+    public void readCourseBook_noManifestThroughStorageManager_readsDataFile() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        new JsonCourseBookStorage(filePath).saveCourseBook(getTypicalCourseBook());
+
+        StorageManager storageManager = new StorageManager(new ShardedCourseBookStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        assertEquals(getTypicalCourseBook(), new CourseBook(storageManager.readCourseBook().get()));
+
+        // another directory without a manifest holds no course book
+        assertFalse(storageManager.readCourseBook(testFolder.resolve("other.shards")).isPresent());
+    }
+
+    @Test
+    public void readCourseBook_missingOrInvalidShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("CourseBook.json");
+        ShardedCourseBookStorage storage = new ShardedCourseBookStorage(filePath);
+        storage.saveCourseBook(getTypicalCourseBook());
+        Path shardPath = storage.getCourseBookFilePath().resolve(getShardFileNames(storage).iterator().next());
+
+        Files.writeString(shardPath, "{ \"positions\": [1], \"persons\": [] }");
+        assertThrows(DataLoadingException.class, () -> new ShardedCourseBookStorage(filePath).readCourseBook());
+
+        Files.delete(shardPath);
+        assertThrows(DataLoadingException.class, () -> new ShardedCourseBookStorage(filePath).readCourseBook());
+    }
+
+    @Test
+    public void assignPositions() {
+        Person first = new PersonBuilder().withName("First").build();
+        Person second = new PersonBuilder().withName("Second").build();
+        Person third = new PersonBuilder().withName("Third").build();
+        Map<Person, Long> previous = new IdentityHashMap<>();
+        previous.put(first, GAP);
+        previous.put(third, 2 * GAP);
+
+        // nothing saved before -> renumbered
+        assertNull(ShardedCourseBookStorage.assignPositions(List.of(first), null));
+
+        // new persons go between and after the persons saved before
+        assertArrayEquals(new long[] {GAP, GAP + GAP / 2, 2 * GAP, 3 * GAP},
+                ShardedCourseBookStorage.assignPositions(List.of(first, second, third, HOON), previous));
+
+        // persons saved before that are out of order -> renumbered
+        assertNull(ShardedCourseBookStorage.assignPositions(List.of(third, first), previous));
+
+        // no room between the persons saved before -> renumbered
+        previous.put(third, GAP + 1);
+        assertNull(ShardedCourseBookStorage.assignPositions(List.of(first, second, HOON, third), previous));
+    }
+
+    private static Set<String> getShardFileNames(ShardedCourseBookStorage storage) throws Exception {
+        try (Stream<Path> files = Files.list(storage.getCourseBookFilePath())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> !name.equals(ShardedCourseBookStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private static Set<String> getShardKeys(ShardedCourseBookStorage storage) throws Exception {
+        return getShardFileNames(storage).stream()
+                .map(name -> name.substring(0, name.indexOf('.')))
+                .collect(Collectors.toSet());
+    }
+}
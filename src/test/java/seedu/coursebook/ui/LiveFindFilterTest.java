@@ -0,0 +1,129 @@
+package seedu.coursebook.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.coursebook.testutil.TypicalPersons.ALICE;
+import static seedu.coursebook.testutil.TypicalPersons.BENSON;
+import static seedu.coursebook.testutil.TypicalPersons.DANIEL;
+import static seedu.coursebook.testutil.TypicalPersons.getTypicalCourseBook;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.coursebook.logic.Logic;
+import seedu.coursebook.logic.LogicManager;
+import seedu.coursebook.model.Model;
+import seedu.coursebook.model.ModelManager;
+import seedu.coursebook.model.UserPrefs;
+import seedu.coursebook.storage.JsonCourseBookStorage;
+import seedu.coursebook.storage.JsonUserPrefsStorage;
+import seedu.coursebook.storage.StorageManager;
+
+/**
+ * Tests the live find filter with the test thread standing in for the JavaFX application thread, which runs the tasks
+ * that the filter hands to it.
+ */
+public class LiveFindFilterTest {
+
+    private static final long DEBOUNCE_MILLIS = 50;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final BlockingQueue<Runnable> fxTasks = new LinkedBlockingQueue<>();
+    private Model model;
+    private LiveFindFilter filter;
+    private int shownCount = 0;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonCourseBookStorage(temporaryFolder.resolve("CourseBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model = new ModelManager(getTypicalCourseBook(), new UserPrefs());
+        Logic logic = new LogicManager(model, storage);
+        filter = new LiveFindFilter(logic, DEBOUNCE_MILLIS, fxTasks::add, Runnable::run, () -> shownCount++);
+    }
+
+    @Test
+    public void update_findTypedFurther_showsMatchesOfEachChange() throws Exception {
+        filter.update("find n/e");
+        runNextFxTask();
+        assertEquals(5, model.getFilteredPersonList().size());
+
+        filter.update("find n/mei");
+        runNextFxTask();
+        assertEquals(List.of(BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals(2, shownCount);
+        assertTrue(filter.getLastLatencyNanos().getAsLong() >= TimeUnit.MILLISECONDS.toNanos(DEBOUNCE_MILLIS));
+
+        // keyword changed instead of typed further -> all persons matched again
+        filter.update("find n/alice");
+        runNextFxTask();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_changesWithinDebounce_showsOnlyLastChange() throws Exception {
+        filter.update("find n/alice");
+        filter.update("find n/benson");
+        runNextFxTask();
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+        assertNull(fxTasks.poll(DEBOUNCE_MILLIS * 4, TimeUnit.MILLISECONDS));
+        assertEquals(1, shownCount);
+    }
+
+    @Test
+    public void update_blankOrOtherCommand_restoresOrKeepsPersonList() throws Exception {
+        // another command, or an invalid find -> person list left as it is
+        filter.update("list");
+        filter.update("find n/");
+        assertNull(fxTasks.poll(DEBOUNCE_MILLIS * 4, TimeUnit.MILLISECONDS));
+        filter.update("");
+        assertEquals(7, model.getFilteredPersonList().size());
+
+        // blank after matches shown -> every person shown again
+        filter.update("find n/alice");
+        runNextFxTask();
+        filter.update("delete 1");
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+        filter.update(" ");
+        assertEquals(7, model.getFilteredPersonList().size());
+
+        // blank after a command was entered -> person list left as the command set it
+        filter.update("find n/alice");
+        runNextFxTask();
+        filter.reset();
+        filter.update("");
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void update_courseBookChangedBeforeShown_matchesAgain() throws Exception {
+        filter.update("find n/meier");
+        Runnable show = nextFxTask();
+        model.deletePerson(BENSON);
+        show.run();
+        runNextFxTask();
+        assertEquals(List.of(DANIEL), model.getFilteredPersonList());
+    }
+
+    private Runnable nextFxTask() throws InterruptedException {
+        Runnable task = fxTasks.poll(10, TimeUnit.SECONDS);
+        assertNotNull(task);
+        return task;
+    }
+
+    private void runNextFxTask() throws InterruptedException {
+        nextFxTask().run();
+    }
+}